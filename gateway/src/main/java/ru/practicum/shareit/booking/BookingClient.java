@@ -3,26 +3,32 @@ package ru.practicum.shareit.booking;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
+@Profile("!reactive")
 public class BookingClient extends BaseClient {
 
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl,
+                         RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory) {
         super(builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build()
+                .requestFactory(() -> requestFactory)
+                .build(),
+                API_PREFIX
         );
     }
 
@@ -30,22 +36,20 @@ public class BookingClient extends BaseClient {
         return post("", userId, bookingRequestDto);
     }
 
-    public ResponseEntity<Object> findAllByBooker(String state, int userId, int from, int size) {
-        return get("?state={state}&from={from}&size={size}", userId,
-                Map.of(
-                        "state", state,
-                        "from", from,
-                        "size", size
-                ));
+    public ResponseEntity<Object> createAll(List<BookingRequestDto> bookingRequestDtos, int userId) {
+        return post("/batch", userId, bookingRequestDtos);
     }
 
-    public ResponseEntity<Object> findAllByOwner(String state, int userId, int from, int size) {
-        return get("/owner?state={state}&from={from}&size={size}", userId,
-                Map.of(
-                        "state", state,
-                        "from", from,
-                        "size", size
-                ));
+    public ResponseEntity<Object> findAllByBooker(String state, int userId, int from, int size, String after) {
+        Map<String, Object> parameters = pageParameters(from, size);
+        parameters.put("state", state);
+        return get(withCursor("?state={state}&from={from}&size={size}", parameters, after), userId, parameters);
+    }
+
+    public ResponseEntity<Object> findAllByOwner(String state, int userId, int from, int size, String after) {
+        Map<String, Object> parameters = pageParameters(from, size);
+        parameters.put("state", state);
+        return get(withCursor("/owner?state={state}&from={from}&size={size}", parameters, after), userId, parameters);
     }
 
     public ResponseEntity<Object> findById(int id, int userId) {
@@ -56,6 +60,10 @@ public class BookingClient extends BaseClient {
         return patch("/" + id + "?approved={approved}", userId, Map.of("approved", approved), null);
     }
 
+    public ResponseEntity<Object> updateAll(Boolean approved, List<Integer> ids, int userId) {
+        return patch("?approved={approved}", userId, Map.of("approved", approved), ids);
+    }
+
     public ResponseEntity<Object> deleteById(int id) {
         return delete("/" + id);
     }
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+public class ReactiveBookingClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/bookings";
+
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder
+                .baseUrl(serverUrl + API_PREFIX)
+                .build(),
+                API_PREFIX
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> create(BookingRequestDto bookingRequestDto, int userId) {
+        return post("", userId, bookingRequestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> createAll(List<BookingRequestDto> bookingRequestDtos, int userId) {
+        return post("/batch", userId, bookingRequestDtos);
+    }
+
+    public Mono<ResponseEntity<Object>> findAllByBooker(String state, int userId, int from, int size, String after) {
+        Map<String, Object> parameters = pageParameters(from, size);
+        parameters.put("state", state);
+        return get(withCursor("?state={state}&from={from}&size={size}", parameters, after), userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> findAllByOwner(String state, int userId, int from, int size, String after) {
+        Map<String, Object> parameters = pageParameters(from, size);
+        parameters.put("state", state);
+        return get(withCursor("/owner?state={state}&from={from}&size={size}", parameters, after), userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> findById(int id, int userId) {
+        return get("/" + id, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> update(Boolean approved, int id, int userId) {
+        return patch("/" + id + "?approved={approved}", userId, Map.of("approved", approved), null);
+    }
+
+    public Mono<ResponseEntity<Object>> updateAll(Boolean approved, List<Integer> ids, int userId) {
+        return patch("?approved={approved}", userId, Map.of("approved", approved), ids);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteById(int id) {
+        return delete("/" + id);
+    }
+
+}
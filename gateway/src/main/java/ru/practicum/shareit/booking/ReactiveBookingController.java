@@ -0,0 +1,104 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
+
+@Slf4j
+@Validated
+@RestController
+@Profile("reactive")
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+public class ReactiveBookingController {
+
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<Object>> create(@Valid @RequestBody BookingRequestDto bookingRequestDto,
+                                               @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. post. /bookings. create booking request");
+        return bookingClient.create(bookingRequestDto, userId);
+    }
+
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<Object>> createAll(@RequestBody @NotEmpty @Size(max = 1000) List<@Valid @NotNull BookingRequestDto> bookingRequestDtos,
+                                                  @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. post. /bookings/batch. create {} bookings request", bookingRequestDtos.size());
+        return bookingClient.createAll(bookingRequestDtos, userId);
+    }
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> findAllByBooker(@RequestParam(defaultValue = "ALL") String state,
+                                                        @RequestHeader(X_SHARER_USER_ID) int userId,
+                                                        @RequestParam(defaultValue = "0") @Valid @PositiveOrZero int from,
+                                                        @RequestParam(defaultValue = "10") @Valid @Positive int size,
+                                                        @RequestParam(required = false) String after) {
+        log.info("controller. get. /bookings. find all booking request");
+        return bookingClient.findAllByBooker(state, userId, from, size, after);
+    }
+
+    @GetMapping("/owner")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> findAllByOwner(@RequestParam(defaultValue = "ALL") String state,
+                                                       @RequestHeader(X_SHARER_USER_ID) int userId,
+                                                       @RequestParam(defaultValue = "0") @Valid @PositiveOrZero int from,
+                                                       @RequestParam(defaultValue = "10") @Valid @Positive int size,
+                                                       @RequestParam(required = false) String after) {
+        log.info("controller. get. /bookings. find all booking request");
+        return bookingClient.findAllByOwner(state, userId, from, size, after);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> findById(@PathVariable int id,
+                                                 @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. get. /bookings/{}. find booking by id request", id);
+        return bookingClient.findById(id, userId);
+    }
+
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> update(@RequestParam @NotNull Boolean approved,
+                                               @PathVariable int id,
+                                               @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. patch. /bookings/{}?approved={}. update booking request", id, approved);
+        return bookingClient.update(approved, id, userId);
+    }
+
+    @PatchMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> updateAll(@RequestParam @NotNull Boolean approved,
+                                                  @RequestBody @NotEmpty @Size(max = 100) List<@NotNull @Positive Integer> ids,
+                                                  @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. patch. /bookings?approved={}. update {} bookings request", approved, ids.size());
+        return bookingClient.updateAll(approved, ids, userId);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> delete(@PathVariable int id) {
+        log.info("controller. delete. /bookings/{}. delete booking by id request", id);
+        return bookingClient.deleteById(id);
+    }
+
+}
@@ -1,20 +1,49 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
 
 public class BaseClient {
+    static final List<String> FORWARDED_HEADERS = List.of(HttpHeaders.IF_NONE_MATCH);
+
+    private static final List<String> PASSTHROUGH_RESPONSE_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.ETAG,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.LOCATION,
+            "X-Next-Cursor");
+
     protected final RestTemplate rest;
 
-    public BaseClient(RestTemplate rest) {
+    private final String family;
+
+    @Value("${shareit-gateway.passthrough:false}")
+    private boolean passthrough;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private ServerCallGuard serverCallGuard;
+
+    public BaseClient(RestTemplate rest, String apiPrefix) {
         this.rest = rest;
+        this.family = apiPrefix.replace("/", "");
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -81,21 +110,50 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    protected static String withCursor(String path, Map<String, Object> parameters, @Nullable String after) {
+        if (after == null) {
+            return path;
+        }
+        parameters.put("after", after);
+        return path + (path.contains("?") ? "&" : "?") + "after={after}";
+    }
+
+    protected static Map<String, Object> pageParameters(int from, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+        return parameters;
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Integer userId,
                                                           @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        Supplier<ResponseEntity<Object>> call = () -> serverCallGuard.execute(family,
+                () -> sendRequest(method, path, requestEntity, parameters));
+        if (method == HttpMethod.GET) {
+            return requestCoalescer.execute(RequestCoalescer.requestKey(path, parameters, requestEntity.getHeaders()), call);
+        }
+        return call.get();
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
+    private <T> ResponseEntity<Object> sendRequest(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                                   @Nullable Map<String, Object> parameters) {
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+            if (passthrough) {
+                return preparePassthroughResponse(exchange(method, path, requestEntity, byte[].class, parameters));
             }
+            return prepareGatewayResponse(exchange(method, path, requestEntity, Object.class, parameters));
         } catch (HttpStatusCodeException e) {
             return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+    }
+
+    private <T, R> ResponseEntity<R> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                              Class<R> responseType, @Nullable Map<String, Object> parameters) {
+        if (parameters != null) {
+            return rest.exchange(path, method, requestEntity, responseType, parameters);
+        }
+        return rest.exchange(path, method, requestEntity, responseType);
     }
 
     private HttpHeaders defaultHeaders(Integer userId) {
@@ -105,11 +163,37 @@ public class BaseClient {
         if (userId != null) {
             headers.set(X_SHARER_USER_ID, String.valueOf(userId));
         }
+        forwardRequestHeaders(headers);
         return headers;
     }
 
+    private static void forwardRequestHeaders(HttpHeaders headers) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        for (String name : FORWARDED_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                headers.set(name, value);
+            }
+        }
+    }
+
+    static ResponseEntity<Object> preparePassthroughResponse(ResponseEntity<byte[]> response) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : PASSTHROUGH_RESPONSE_HEADERS) {
+            List<String> values = response.getHeaders().get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        }
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+
     private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
+        if (response.getStatusCode().is2xxSuccessful() || response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
             return response;
         }
 
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
+
+public class ReactiveBaseClient {
+    public static final String FORWARDED_HEADERS_CONTEXT_KEY = ReactiveBaseClient.class.getName() + ".forwardedHeaders";
+
+    protected final WebClient webClient;
+
+    private final String family;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private ServerCallGuard serverCallGuard;
+
+    public ReactiveBaseClient(WebClient webClient, String apiPrefix) {
+        this.webClient = webClient;
+        this.family = apiPrefix.replace("/", "");
+    }
+
+    public static HttpHeaders forwardedHeaders(HttpHeaders requestHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : BaseClient.FORWARDED_HEADERS) {
+            List<String> values = requestHeaders.get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        }
+        return headers;
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, int userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, Map<String, Object> parameters) {
+        return get(path, null, parameters);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, Integer userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
+        return post(path, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Integer userId, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
+        return patch(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, int userId, T body) {
+        return patch(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Integer userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<Object>> delete(String path) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, null, null, null);
+    }
+
+    protected static String withCursor(String path, Map<String, Object> parameters, @Nullable String after) {
+        return BaseClient.withCursor(path, parameters, after);
+    }
+
+    protected static Map<String, Object> pageParameters(int from, int size) {
+        return BaseClient.pageParameters(from, size);
+    }
+
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Integer userId,
+                                                                @Nullable Map<String, Object> parameters, @Nullable T body) {
+        return Mono.deferContextual(context -> {
+            HttpHeaders requestHeaders = new HttpHeaders();
+            setDefaultHeaders(requestHeaders, userId, context);
+            WebClient.RequestBodySpec request = webClient.method(method)
+                    .uri(path, parameters != null ? parameters : Collections.emptyMap())
+                    .headers(headers -> headers.putAll(requestHeaders));
+            WebClient.RequestHeadersSpec<?> requestWithBody = body != null ? request.bodyValue(body) : request;
+            Mono<ResponseEntity<Object>> response = serverCallGuard.execute(family, requestWithBody
+                    .exchangeToMono(r -> r.toEntity(byte[].class))
+                    .map(BaseClient::preparePassthroughResponse));
+            if (method == HttpMethod.GET) {
+                return requestCoalescer.execute(RequestCoalescer.requestKey(path, parameters, requestHeaders), response);
+            }
+            return response;
+        });
+    }
+
+    private static void setDefaultHeaders(HttpHeaders headers, Integer userId, ContextView context) {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set(X_SHARER_USER_ID, String.valueOf(userId));
+        }
+        context.<HttpHeaders>getOrEmpty(FORWARDED_HEADERS_CONTEXT_KEY).ifPresent(headers::putAll);
+    }
+}
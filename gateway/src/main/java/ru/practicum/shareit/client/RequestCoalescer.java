@@ -0,0 +1,100 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Component
+public class RequestCoalescer {
+
+    private static final String REQUESTS_METRIC = "shareit.gateway.get.requests";
+
+    private final ConcurrentMap<String, CompletableFuture<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Mono<ResponseEntity<Object>>> inFlightMonos = new ConcurrentHashMap<>();
+
+    private final Counter forwarded;
+
+    private final Counter coalesced;
+
+    private final boolean enabled;
+
+    public RequestCoalescer(MeterRegistry meterRegistry,
+                            @Value("${shareit-gateway.coalescing:true}") boolean enabled) {
+        this.forwarded = meterRegistry.counter(REQUESTS_METRIC, "outcome", "forwarded");
+        this.coalesced = meterRegistry.counter(REQUESTS_METRIC, "outcome", "coalesced");
+        this.enabled = enabled;
+    }
+
+    public static String requestKey(String path, @Nullable Map<String, Object> parameters, HttpHeaders headers) {
+        return path + " " + (parameters != null ? new TreeMap<>(parameters) : "{}") + " " + headers;
+    }
+
+    public ResponseEntity<Object> execute(String key, Supplier<ResponseEntity<Object>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        CompletableFuture<ResponseEntity<Object>> future = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+        forwarded.increment();
+        try {
+            ResponseEntity<Object> response = call.get();
+            future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public Mono<ResponseEntity<Object>> execute(String key, Mono<ResponseEntity<Object>> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            AtomicReference<Mono<ResponseEntity<Object>>> self = new AtomicReference<>();
+            Mono<ResponseEntity<Object>> created = call
+                    .doFinally(signal -> inFlightMonos.remove(key, self.get()))
+                    .cache();
+            self.set(created);
+            Mono<ResponseEntity<Object>> existing = inFlightMonos.putIfAbsent(key, created);
+            if (existing != null) {
+                coalesced.increment();
+                return existing;
+            }
+            forwarded.increment();
+            return created;
+        });
+    }
+
+    private static ResponseEntity<Object> join(CompletableFuture<ResponseEntity<Object>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.exception.ErrorResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class ServerCallGuard {
+
+    private static final String TRANSITIONS_METRIC = "shareit.gateway.circuit-breaker.transitions";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ServerCallGuard(MeterRegistry meterRegistry,
+                           @Value("${shareit-gateway.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                           @Value("${shareit-gateway.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+                           @Value("${shareit-gateway.circuit-breaker.slow-call-duration:2s}") Duration slowCallDuration,
+                           @Value("${shareit-gateway.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                           @Value("${shareit-gateway.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+                           @Value("${shareit-gateway.circuit-breaker.wait-duration-in-open-state:10s}") Duration waitDurationInOpenState,
+                           @Value("${shareit-gateway.circuit-breaker.permitted-calls-in-half-open-state:5}") int permittedCallsInHalfOpenState,
+                           @Value("${shareit-gateway.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls) {
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build());
+        this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> event.getAddedEntry().getEventPublisher()
+                .onStateTransition(transition -> {
+                    log.warn("client. circuit breaker for /{} moved {}", transition.getCircuitBreakerName(),
+                            transition.getStateTransition());
+                    meterRegistry.counter(TRANSITIONS_METRIC,
+                            "family", transition.getCircuitBreakerName(),
+                            "from", transition.getStateTransition().getFromState().name(),
+                            "to", transition.getStateTransition().getToState().name()).increment();
+                }));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    public ResponseEntity<Object> execute(String family, Supplier<ResponseEntity<Object>> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(family);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(family);
+        ResponseEntity<Object> rejection = acquirePermissions(family, circuitBreaker, bulkhead);
+        if (rejection != null) {
+            return rejection;
+        }
+        long start = System.nanoTime();
+        try {
+            ResponseEntity<Object> response = call.get();
+            onResponse(circuitBreaker, start, response);
+            return response;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    public Mono<ResponseEntity<Object>> execute(String family, Mono<ResponseEntity<Object>> call) {
+        return Mono.defer(() -> {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(family);
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(family);
+            ResponseEntity<Object> rejection = acquirePermissions(family, circuitBreaker, bulkhead);
+            if (rejection != null) {
+                return Mono.just(rejection);
+            }
+            long start = System.nanoTime();
+            return call
+                    .doOnNext(response -> onResponse(circuitBreaker, start, response))
+                    .doOnError(e -> circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e))
+                    .doOnCancel(circuitBreaker::releasePermission)
+                    .doFinally(signal -> bulkhead.onComplete());
+        });
+    }
+
+    private static ResponseEntity<Object> acquirePermissions(String family, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return serviceUnavailable(String.format("circuit breaker for /%s is open", family));
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            return serviceUnavailable(String.format("too many concurrent calls to /%s", family));
+        }
+        return null;
+    }
+
+    private static void onResponse(CircuitBreaker circuitBreaker, long start, ResponseEntity<Object> response) {
+        long duration = System.nanoTime() - start;
+        if (response.getStatusCode().is5xxServerError()) {
+            circuitBreaker.onError(duration, TimeUnit.NANOSECONDS,
+                    new IllegalStateException("server responded with " + response.getStatusCode()));
+        } else {
+            circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static ResponseEntity<Object> serviceUnavailable(String message) {
+        log.warn("client. {}", message);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(message, HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase()));
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.server.WebFilter;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+import java.time.Duration;
+
+@Profile("reactive")
+@Configuration
+public class ReactiveConfig {
+
+    @Value("${shareit-server.http.max-total:200}")
+    private int maxTotal;
+
+    @Value("${shareit-server.http.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${shareit-server.http.idle-timeout:30s}")
+    private Duration idleTimeout;
+
+    @Value("${shareit-server.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${shareit-server.http.connection-request-timeout:2s}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${shareit-server.http.read-timeout:10s}")
+    private Duration readTimeout;
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareitServerConnectionProvider() {
+        return ConnectionProvider.builder("shareit-server")
+                .maxConnections(maxTotal)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(idleTimeout)
+                .maxLifeTime(keepAlive)
+                .evictInBackground(idleTimeout)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector shareitServerHttpConnector(ConnectionProvider shareitServerConnectionProvider) {
+        return new ReactorClientHttpConnector(HttpClient.create(shareitServerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout));
+    }
+
+    @Bean
+    public WebFilter forwardedHeadersWebFilter() {
+        return (exchange, chain) -> chain.filter(exchange)
+                .contextWrite(context -> context.put(ReactiveBaseClient.FORWARDED_HEADERS_CONTEXT_KEY,
+                        ReactiveBaseClient.forwardedHeaders(exchange.getRequest().getHeaders())));
+    }
+}
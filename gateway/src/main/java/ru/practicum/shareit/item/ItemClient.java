@@ -3,40 +3,51 @@ package ru.practicum.shareit.item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemRequestClientDto;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
+@Profile("!reactive")
 public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
+    private final ItemSearchCache itemSearchCache;
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl,
+                      RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory,
+                      ItemSearchCache itemSearchCache) {
         super(builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build()
+                .requestFactory(() -> requestFactory)
+                .build(),
+                API_PREFIX
         );
+        this.itemSearchCache = itemSearchCache;
     }
 
     public ResponseEntity<Object> create(ItemRequestClientDto itemRequestDto, int userId) {
         return post("", userId, itemRequestDto);
     }
 
-    public ResponseEntity<Object> findAll(int userId, int from, int size) {
-        return get("?from={from}&size={size}", userId,
-                Map.of(
-                        "from", from,
-                        "size", size
-                ));
+    public ResponseEntity<Object> createItems(List<ItemRequestClientDto> itemRequestDtos, int userId) {
+        return post("/batch", userId, itemRequestDtos);
+    }
+
+    public ResponseEntity<Object> findAll(int userId, int from, int size, String after) {
+        Map<String, Object> parameters = pageParameters(from, size);
+        return get(withCursor("?from={from}&size={size}", parameters, after), userId, parameters);
     }
 
     public ResponseEntity<Object> findById(int id, int userId) {
@@ -52,12 +63,12 @@ public class ItemClient extends BaseClient {
     }
 
     public ResponseEntity<Object> search(String text, int from, int size) {
-        return get("/search?text={text}&from={from}&size={size}",
+        return itemSearchCache.get(text, from, size, () -> get("/search?text={text}&from={from}&size={size}",
                 Map.of(
                         "text", text,
                         "from", from,
                         "size", size
-                ));
+                )));
     }
 
     public ResponseEntity<Object> createComment(CommentRequestDto commentRequestDto, int itemId, int userId) {
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -12,12 +13,17 @@ import ru.practicum.shareit.validation.Create;
 import ru.practicum.shareit.validation.Update;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
 
 @Slf4j
 @Validated
 @RestController
+@Profile("!reactive")
 @RequestMapping("/items")
 @RequiredArgsConstructor
 public class ItemController {
@@ -35,13 +41,24 @@ public class ItemController {
         return itemClient.create(itemRequestDto, userId);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Validated(Create.class)
+    public ResponseEntity<Object> createItems(@RequestBody @NotEmpty(groups = Create.class) @Size(max = 1000, groups = Create.class)
+                                              List<@Valid @NotNull(groups = Create.class) ItemRequestClientDto> itemRequestDtos,
+                                              @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. post. /items/batch. create {} items request", itemRequestDtos.size());
+        return itemClient.createItems(itemRequestDtos, userId);
+    }
+
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<Object> findAll(@RequestHeader(X_SHARER_USER_ID) int userId,
                                  @RequestParam(defaultValue = "0") @Valid @PositiveOrZero int from,
-                                 @RequestParam(defaultValue = "10") @Valid @Positive int size) {
+                                 @RequestParam(defaultValue = "10") @Valid @Positive int size,
+                                 @RequestParam(required = false) String after) {
         log.info("controller. get. /items. find all items request");
-        return itemClient.findAll(userId, from, size);
+        return itemClient.findAll(userId, from, size, after);
     }
 
     @GetMapping("/{id}")
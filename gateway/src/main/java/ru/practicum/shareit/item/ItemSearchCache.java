@@ -0,0 +1,67 @@
+package ru.practicum.shareit.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class ItemSearchCache {
+
+    private static final int DEFAULT_WEIGHT = 1024;
+
+    private final Cache<List<Object>, ResponseEntity<Object>> cache;
+
+    public ItemSearchCache(MeterRegistry meterRegistry,
+                           @Value("${shareit-gateway.search-cache.ttl:5s}") Duration ttl,
+                           @Value("${shareit-gateway.search-cache.maximum-weight:10485760}") long maximumWeight) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maximumWeight)
+                .weigher((List<Object> key, ResponseEntity<Object> response) -> weigh(response))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "itemSearch");
+    }
+
+    public ResponseEntity<Object> get(String text, int from, int size, Supplier<ResponseEntity<Object>> call) {
+        List<Object> key = List.of(text, from, size);
+        ResponseEntity<Object> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        ResponseEntity<Object> response = call.get();
+        if (response.getStatusCode().is2xxSuccessful()) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    public Mono<ResponseEntity<Object>> get(String text, int from, int size, Mono<ResponseEntity<Object>> call) {
+        List<Object> key = List.of(text, from, size);
+        return Mono.defer(() -> {
+            ResponseEntity<Object> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return call.doOnNext(response -> {
+                if (response.getStatusCode().is2xxSuccessful()) {
+                    cache.put(key, response);
+                }
+            });
+        });
+    }
+
+    private static int weigh(ResponseEntity<Object> response) {
+        Object body = response.getBody();
+        return body instanceof byte[] ? ((byte[]) body).length : DEFAULT_WEIGHT;
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemRequestClientDto;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/items";
+
+    private final ItemSearchCache itemSearchCache;
+
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl,
+                              WebClient.Builder builder,
+                              ItemSearchCache itemSearchCache) {
+        super(builder
+                .baseUrl(serverUrl + API_PREFIX)
+                .build(),
+                API_PREFIX
+        );
+        this.itemSearchCache = itemSearchCache;
+    }
+
+    public Mono<ResponseEntity<Object>> create(ItemRequestClientDto itemRequestDto, int userId) {
+        return post("", userId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> createItems(List<ItemRequestClientDto> itemRequestDtos, int userId) {
+        return post("/batch", userId, itemRequestDtos);
+    }
+
+    public Mono<ResponseEntity<Object>> findAll(int userId, int from, int size, String after) {
+        Map<String, Object> parameters = pageParameters(from, size);
+        return get(withCursor("?from={from}&size={size}", parameters, after), userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> findById(int id, int userId) {
+        return get("/" + id, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> update(int id, int userId, ItemRequestClientDto itemRequestDto) {
+        return patch("/" + id, userId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteById(int id) {
+        return delete("/" + id);
+    }
+
+    public Mono<ResponseEntity<Object>> search(String text, int from, int size) {
+        return itemSearchCache.get(text, from, size, get("/search?text={text}&from={from}&size={size}",
+                Map.of(
+                        "text", text,
+                        "from", from,
+                        "size", size
+                )));
+    }
+
+    public Mono<ResponseEntity<Object>> createComment(CommentRequestDto commentRequestDto, int itemId, int userId) {
+        return post("/" + itemId + "/comment", userId, commentRequestDto);
+    }
+
+}
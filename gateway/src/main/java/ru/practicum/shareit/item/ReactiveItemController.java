@@ -0,0 +1,108 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemRequestClientDto;
+import ru.practicum.shareit.validation.Create;
+import ru.practicum.shareit.validation.Update;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
+
+@Slf4j
+@Validated
+@RestController
+@Profile("reactive")
+@RequestMapping("/items")
+@RequiredArgsConstructor
+public class ReactiveItemController {
+
+    private final ReactiveItemClient itemClient;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Validated(Create.class)
+    public Mono<ResponseEntity<Object>> createItem(@Valid @RequestBody ItemRequestClientDto itemRequestDto,
+                                                   @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. post. /items. create item request");
+        return itemClient.create(itemRequestDto, userId);
+    }
+
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Validated(Create.class)
+    public Mono<ResponseEntity<Object>> createItems(@RequestBody @NotEmpty(groups = Create.class) @Size(max = 1000, groups = Create.class)
+                                                    List<@Valid @NotNull(groups = Create.class) ItemRequestClientDto> itemRequestDtos,
+                                                    @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. post. /items/batch. create {} items request", itemRequestDtos.size());
+        return itemClient.createItems(itemRequestDtos, userId);
+    }
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> findAll(@RequestHeader(X_SHARER_USER_ID) int userId,
+                                       @RequestParam(defaultValue = "0") @Valid @PositiveOrZero int from,
+                                       @RequestParam(defaultValue = "10") @Valid @Positive int size,
+                                       @RequestParam(required = false) String after) {
+        log.info("controller. get. /items. find all items request");
+        return itemClient.findAll(userId, from, size, after);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> findById(@PathVariable int id,
+                                  @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. get. /items/{}. find item by id request", id);
+        return itemClient.findById(id, userId);
+    }
+
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    @Validated(Update.class)
+    public Mono<ResponseEntity<Object>> update(@PathVariable int id,
+                                @RequestBody ItemRequestClientDto itemRequestDto,
+                                @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. patch. /items/{}. update item request", id);
+        return itemClient.update(id, userId, itemRequestDto);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> deleteById(@PathVariable int id) {
+        log.info("controller. delete. /items/{}. delete item by id request", id);
+        return itemClient.deleteById(id);
+    }
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Object>> search(@RequestParam String text,
+                                      @RequestParam(defaultValue = "0") @Valid @PositiveOrZero int from,
+                                      @RequestParam(defaultValue = "10") @Valid @Positive int size) {
+        log.info("controller. get. /search. find items by text={} request", text);
+        return itemClient.search(text, from, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    @ResponseStatus(HttpStatus.OK)
+    @Validated(Create.class)
+    public Mono<ResponseEntity<Object>> createComment(@Valid @RequestBody CommentRequestDto commentRequestDto,
+                                          @PathVariable int itemId,
+                                          @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. post. /items. create item request");
+        return itemClient.createComment(commentRequestDto, itemId, userId);
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.exception.ErrorResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
+
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String family = RateLimiter.family(request.getRequestURI());
+        String userId = request.getHeader(X_SHARER_USER_ID);
+        Duration wait = rateLimiter.tryAcquire(family, userId, request.getRemoteAddr());
+        if (wait.isZero()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        log.warn("filter. rate limit exceeded for /{} by user with id={}", family, userId);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.retryAfterSeconds(wait)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                String.format("rate limit exceeded for /%s", family), HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase()));
+    }
+}
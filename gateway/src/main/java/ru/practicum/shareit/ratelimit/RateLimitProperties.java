@@ -0,0 +1,39 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "shareit-gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    @NotNull
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    @NotNull
+    private Map<String, @Valid Limit> families = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        @Positive
+        private int capacity;
+
+        @Positive
+        private double refillPerSecond;
+    }
+}
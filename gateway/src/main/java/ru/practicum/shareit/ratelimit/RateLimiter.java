@@ -0,0 +1,58 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter {
+
+    private static final String REJECTED_METRIC = "shareit.gateway.rate-limit.rejected";
+
+    private final RateLimitProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<List<String>, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    public static String family(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+
+    public Duration tryAcquire(String family, @Nullable String userId, String remoteAddress) {
+        RateLimitProperties.Limit limit = properties.getFamilies().get(family);
+        if (!properties.isEnabled() || limit == null) {
+            return Duration.ZERO;
+        }
+        String client = userId != null ? "user:" + userId : "address:" + remoteAddress;
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(List.of(family, client),
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            meterRegistry.counter(REJECTED_METRIC, "family", family).increment();
+        }
+        return Duration.ofNanos(waitNanos);
+    }
+
+    public static long retryAfterSeconds(Duration wait) {
+        return Math.max(1, (wait.toMillis() + 999) / 1000);
+    }
+}
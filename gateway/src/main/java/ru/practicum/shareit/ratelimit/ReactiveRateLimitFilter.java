@@ -0,0 +1,60 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.exception.ErrorResponse;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
+
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String family = RateLimiter.family(request.getPath().value());
+        String userId = request.getHeaders().getFirst(X_SHARER_USER_ID);
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        Duration wait = rateLimiter.tryAcquire(family, userId,
+                remoteAddress != null ? remoteAddress.getHostString() : "unknown");
+        if (wait.isZero()) {
+            return chain.filter(exchange);
+        }
+        log.warn("filter. rate limit exceeded for /{} by user with id={}", family, userId);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.retryAfterSeconds(wait)));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            DataBuffer body = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(new ErrorResponse(
+                    String.format("rate limit exceeded for /%s", family), HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())));
+            return response.writeWith(Mono.just(body));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+}
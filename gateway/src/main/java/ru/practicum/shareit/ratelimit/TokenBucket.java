@@ -0,0 +1,32 @@
+package ru.practicum.shareit.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class TokenBucket {
+
+    private final long refillIntervalNanos;
+
+    private final long burstNanos;
+
+    private final AtomicLong nextRefillAt;
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.refillIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.nextRefillAt = new AtomicLong(now);
+    }
+
+    long tryAcquire(long now) {
+        while (true) {
+            long current = nextRefillAt.get();
+            long next = Math.max(current, now) + refillIntervalNanos;
+            long overdraft = next - now - burstNanos;
+            if (overdraft > 0) {
+                return overdraft;
+            }
+            if (nextRefillAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
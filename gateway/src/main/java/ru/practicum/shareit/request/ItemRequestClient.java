@@ -2,8 +2,9 @@ package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
@@ -12,15 +13,19 @@ import ru.practicum.shareit.request.dto.RequestDto;
 import java.util.Map;
 
 @Service
+@Profile("!reactive")
 public class ItemRequestClient extends BaseClient {
 
     private static final String API_PREFIX = "/requests";
 
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl,
+                             RestTemplateBuilder builder,
+                             ClientHttpRequestFactory requestFactory) {
         super(builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build()
+                .requestFactory(() -> requestFactory)
+                .build(),
+                API_PREFIX
         );
     }
 
@@ -32,12 +37,9 @@ public class ItemRequestClient extends BaseClient {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> findAllFromOthers(int userId, int from, int size) {
-        return get("/all", userId,
-                Map.of(
-                        "from", from,
-                        "size", size
-                ));
+    public ResponseEntity<Object> findAllFromOthers(int userId, int from, int size, String after) {
+        Map<String, Object> parameters = pageParameters(from, size);
+        return get(withCursor("/all?from={from}&size={size}", parameters, after), userId, parameters);
     }
 
     public ResponseEntity<Object> findById(int itemRequestId, int userId) {
@@ -2,6 +2,7 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -17,6 +18,7 @@ import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
 @Slf4j
 @Validated
 @RestController
+@Profile("!reactive")
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
 public class ItemRequestController {
@@ -42,9 +44,10 @@ public class ItemRequestController {
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<Object> findAllFromOthers(@RequestHeader(X_SHARER_USER_ID) int userId,
                                                     @RequestParam(defaultValue = "0") @Valid @PositiveOrZero int from,
-                                                    @RequestParam(defaultValue = "10") @Valid @Positive int size) {
+                                                    @RequestParam(defaultValue = "10") @Valid @Positive int size,
+                                                    @RequestParam(required = false) String after) {
         log.info("controller. get. /requests. find all item requests from others users");
-        return itemRequestClient.findAllFromOthers(userId, from, size);
+        return itemRequestClient.findAllFromOthers(userId, from, size, after);
     }
 
     @GetMapping("/{itemRequestId}")
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.RequestDto;
+
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/requests";
+
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder
+                .baseUrl(serverUrl + API_PREFIX)
+                .build(),
+                API_PREFIX
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> create(RequestDto requestDto, int userId) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> findAllByRequester(int userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> findAllFromOthers(int userId, int from, int size, String after) {
+        Map<String, Object> parameters = pageParameters(from, size);
+        return get(withCursor("/all?from={from}&size={size}", parameters, after), userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> findById(int itemRequestId, int userId) {
+        return get("/" + itemRequestId, userId);
+    }
+}
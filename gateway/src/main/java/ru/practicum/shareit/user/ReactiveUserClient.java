@@ -0,0 +1,46 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.dto.UserRequestDto;
+
+@Service
+@Profile("reactive")
+public class ReactiveUserClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/users";
+
+    public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder
+                .baseUrl(serverUrl + API_PREFIX)
+                .build(),
+                API_PREFIX
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> create(UserRequestDto userRequestDto) {
+        return post("", userRequestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> findAll() {
+        return get("");
+    }
+
+    public Mono<ResponseEntity<Object>> findById(int id) {
+        return get("/" + id);
+    }
+
+    public Mono<ResponseEntity<Object>> update(int id, UserRequestDto userRequestDto) {
+        return patch("/" + id, userRequestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteById(int id) {
+        return delete("/" + id);
+    }
+
+}
@@ -0,0 +1,195 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescerTest {
+
+    private static final int THREADS_COUNT = 8;
+
+    private static final String KEY = "/items/1 {} []";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RequestCoalescer requestCoalescer;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(meterRegistry, true);
+        executor = Executors.newFixedThreadPool(THREADS_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneUpstreamCall() throws Exception {
+        ResponseEntity<Object> response = ResponseEntity.ok("item");
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ResponseEntity<Object>> call = () -> {
+            invocations.incrementAndGet();
+            await(release);
+            return response;
+        };
+
+        List<Future<ResponseEntity<Object>>> futures = submitAll(() -> requestCoalescer.execute(KEY, call));
+        awaitCoalesced(THREADS_COUNT - 1);
+        release.countDown();
+
+        for (Future<ResponseEntity<Object>> future : futures) {
+            assertSame(response, future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, invocations.get());
+        assertEquals(1, count("forwarded"));
+        assertEquals(THREADS_COUNT - 1, count("coalesced"));
+    }
+
+    @Test
+    void leaderExceptionIsPropagatedToFollowers() throws Exception {
+        IllegalStateException failure = new IllegalStateException("server unavailable");
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ResponseEntity<Object>> call = () -> {
+            invocations.incrementAndGet();
+            await(release);
+            throw failure;
+        };
+
+        List<Future<ResponseEntity<Object>>> futures = submitAll(() -> requestCoalescer.execute(KEY, call));
+        awaitCoalesced(THREADS_COUNT - 1);
+        release.countDown();
+
+        for (Future<ResponseEntity<Object>> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void inFlightEntryIsRemovedAfterCompletion() {
+        AtomicInteger invocations = new AtomicInteger();
+
+        requestCoalescer.execute(KEY, () -> ResponseEntity.ok(invocations.incrementAndGet()));
+        assertThrows(IllegalStateException.class, () -> requestCoalescer.execute(KEY, () -> {
+            invocations.incrementAndGet();
+            throw new IllegalStateException("server unavailable");
+        }));
+        ResponseEntity<Object> response = requestCoalescer.execute(KEY, () -> ResponseEntity.ok(invocations.incrementAndGet()));
+
+        assertEquals(3, response.getBody());
+        assertEquals(3, count("forwarded"));
+        assertEquals(0, count("coalesced"));
+    }
+
+    @Test
+    void reactiveCallersShareOneSubscription() throws Exception {
+        ResponseEntity<Object> response = ResponseEntity.ok("item");
+        AtomicInteger subscriptions = new AtomicInteger();
+        Sinks.One<ResponseEntity<Object>> upstream = Sinks.one();
+        Mono<ResponseEntity<Object>> call = upstream.asMono()
+                .doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+
+        CompletableFuture<ResponseEntity<Object>> first = requestCoalescer.execute(KEY, call).toFuture();
+        CompletableFuture<ResponseEntity<Object>> second = requestCoalescer.execute(KEY, call).toFuture();
+        upstream.tryEmitValue(response);
+
+        assertSame(response, first.get(5, TimeUnit.SECONDS));
+        assertSame(response, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, subscriptions.get());
+        assertEquals(1, count("forwarded"));
+        assertEquals(1, count("coalesced"));
+    }
+
+    @Test
+    void reactiveErrorIsPropagatedAndEntryIsRemoved() {
+        IllegalStateException failure = new IllegalStateException("server unavailable");
+        AtomicInteger subscriptions = new AtomicInteger();
+        Sinks.One<ResponseEntity<Object>> upstream = Sinks.one();
+        Mono<ResponseEntity<Object>> failing = upstream.asMono()
+                .doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+
+        CompletableFuture<ResponseEntity<Object>> first = requestCoalescer.execute(KEY, failing).toFuture();
+        CompletableFuture<ResponseEntity<Object>> second = requestCoalescer.execute(KEY, failing).toFuture();
+        upstream.tryEmitError(failure);
+
+        assertSame(failure, assertThrows(ExecutionException.class, first::get).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, second::get).getCause());
+        assertEquals(1, subscriptions.get());
+
+        ResponseEntity<Object> response = requestCoalescer.execute(KEY, Mono.just(ResponseEntity.ok((Object) "item")))
+                .block(Duration.ofSeconds(5));
+
+        assertEquals("item", response.getBody());
+        assertEquals(2, count("forwarded"));
+    }
+
+    @Test
+    void disabledCoalescerForwardsEveryCall() {
+        RequestCoalescer disabled = new RequestCoalescer(meterRegistry, false);
+        AtomicInteger invocations = new AtomicInteger();
+
+        disabled.execute(KEY, () -> ResponseEntity.ok(invocations.incrementAndGet()));
+        disabled.execute(KEY, () -> ResponseEntity.ok(invocations.incrementAndGet()));
+
+        assertEquals(2, invocations.get());
+    }
+
+    private List<Future<ResponseEntity<Object>>> submitAll(Supplier<ResponseEntity<Object>> task) {
+        List<Future<ResponseEntity<Object>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS_COUNT; i++) {
+            futures.add(executor.submit(task::get));
+        }
+        return futures;
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < expected) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join the in-flight call");
+            Thread.sleep(10);
+        }
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter("shareit.gateway.get.requests", "outcome", outcome).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
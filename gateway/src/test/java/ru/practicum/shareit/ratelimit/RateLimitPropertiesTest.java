@@ -0,0 +1,56 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+            .withUserConfiguration(PropertiesConfig.class);
+
+    @Test
+    void bindsPositiveLimits() {
+        contextRunner
+                .withPropertyValues(
+                        "shareit-gateway.rate-limit.families.items.capacity=50",
+                        "shareit-gateway.rate-limit.families.items.refill-per-second=25")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    RateLimitProperties.Limit limit = context.getBean(RateLimitProperties.class).getFamilies().get("items");
+                    assertEquals(50, limit.getCapacity());
+                    assertEquals(25, limit.getRefillPerSecond());
+                });
+    }
+
+    @Test
+    void rejectsZeroCapacity() {
+        contextRunner
+                .withPropertyValues(
+                        "shareit-gateway.rate-limit.families.items.capacity=0",
+                        "shareit-gateway.rate-limit.families.items.refill-per-second=25")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void rejectsZeroRefillRate() {
+        contextRunner
+                .withPropertyValues(
+                        "shareit-gateway.rate-limit.families.items.capacity=50",
+                        "shareit-gateway.rate-limit.families.items.refill-per-second=0")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class PropertiesConfig {
+    }
+}
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+
+    private static final int CAPACITY = 3;
+
+    private static final double REFILL_PER_SECOND = 10;
+
+    private static final long REFILL_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long START = 123_456_789_000L;
+
+    @Test
+    void burstOfCapacityPassesAndNextRequestWaitsForRefill() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_PER_SECOND, START);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(0, bucket.tryAcquire(START));
+        }
+        assertEquals(REFILL_INTERVAL, bucket.tryAcquire(START));
+        assertEquals(REFILL_INTERVAL / 2, bucket.tryAcquire(START + REFILL_INTERVAL / 2));
+    }
+
+    @Test
+    void oneTokenReturnsAfterRefillInterval() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_PER_SECOND, START);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryAcquire(START);
+        }
+
+        assertEquals(0, bucket.tryAcquire(START + REFILL_INTERVAL));
+        assertEquals(REFILL_INTERVAL, bucket.tryAcquire(START + REFILL_INTERVAL));
+    }
+
+    @Test
+    void capacityReturnsAfterFullRefill() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_PER_SECOND, START);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryAcquire(START);
+        }
+        long refilled = START + CAPACITY * REFILL_INTERVAL;
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(0, bucket.tryAcquire(refilled));
+        }
+        assertEquals(REFILL_INTERVAL, bucket.tryAcquire(refilled));
+    }
+
+    @Test
+    void idleTimeDoesNotAccumulateAboveCapacity() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_PER_SECOND, START);
+        long later = START + TimeUnit.MINUTES.toNanos(10);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(0, bucket.tryAcquire(later));
+        }
+        assertEquals(REFILL_INTERVAL, bucket.tryAcquire(later));
+    }
+}
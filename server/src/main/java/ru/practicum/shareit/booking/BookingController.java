@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,7 +17,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
 
@@ -37,22 +40,37 @@ public class BookingController {
         return new ResponseEntity<>(bookingService.create(bookingShortDto, userId), HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BookingDto>> createAll(@RequestBody List<BookingShortDto> bookingShortDtos,
+                                                      @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. post. /bookings/batch. create {} bookings request", bookingShortDtos.size());
+        return new ResponseEntity<>(bookingService.createAll(bookingShortDtos, userId), HttpStatus.CREATED);
+    }
+
     @GetMapping
     public ResponseEntity<List<BookingDto>> findAllByBooker(@RequestParam(defaultValue = "ALL") String state,
                                                             @RequestHeader(X_SHARER_USER_ID) int userId,
                                                             @RequestParam(defaultValue = "0") int from,
-                                                            @RequestParam(defaultValue = "10") int size) {
+                                                            @RequestParam(defaultValue = "10") int size,
+                                                            @RequestParam(required = false) String after) {
         log.info("controller. get. /bookings. find all booking request");
-        return new ResponseEntity<>(bookingService.findAllByBooker(state, userId, from, size), HttpStatus.OK);
+        List<BookingDto> bookings = after == null
+                ? bookingService.findAllByBooker(state, userId, from, size)
+                : bookingService.findAllByBooker(state, userId, PageCursor.decode(after), size);
+        return new ResponseEntity<>(bookings, nextCursorHeaders(bookings, size), HttpStatus.OK);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<List<BookingDto>> findAllByOwner(@RequestParam(defaultValue = "ALL") String state,
                                                            @RequestHeader(X_SHARER_USER_ID) int userId,
                                                            @RequestParam(defaultValue = "0") int from,
-                                                           @RequestParam(defaultValue = "10") int size) {
+                                                           @RequestParam(defaultValue = "10") int size,
+                                                           @RequestParam(required = false) String after) {
         log.info("controller. get. /bookings. find all booking request");
-        return new ResponseEntity<>(bookingService.findAllByOwner(state, userId, from, size), HttpStatus.OK);
+        List<BookingDto> bookings = after == null
+                ? bookingService.findAllByOwner(state, userId, from, size)
+                : bookingService.findAllByOwner(state, userId, PageCursor.decode(after), size);
+        return new ResponseEntity<>(bookings, nextCursorHeaders(bookings, size), HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
@@ -70,9 +88,21 @@ public class BookingController {
         return new ResponseEntity<>(bookingService.update(approved, id, userId), HttpStatus.OK);
     }
 
+    @PatchMapping
+    public ResponseEntity<List<BookingStatusUpdateDto>> updateAll(@RequestParam Boolean approved,
+                                                                  @RequestBody List<Integer> ids,
+                                                                  @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. patch. /bookings?approved={}. update {} bookings request", approved, ids.size());
+        return new ResponseEntity<>(bookingService.updateAll(approved, ids, userId), HttpStatus.OK);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Integer> delete(@PathVariable int id) {
         log.info("controller. delete. /bookings/{}. delete booking by id request", id);
         return new ResponseEntity<>(bookingService.deleteById(id), HttpStatus.OK);
     }
+
+    private static HttpHeaders nextCursorHeaders(List<BookingDto> bookings, int size) {
+        return PageCursor.nextCursorHeaders(bookings, size, b -> PageCursor.of(b.getStart(), b.getId()));
+    }
 }
@@ -6,8 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.user.dto.UserShortDto;
 
 import java.time.LocalDateTime;
 
@@ -24,9 +24,20 @@ public class BookingDto {
 
     private LocalDateTime end;
 
-    private Item item;
+    private ItemShortDto item;
 
-    private User booker;
+    private UserShortDto booker;
 
     private BookingStatus status;
+
+    public BookingDto(Integer id,
+                      LocalDateTime start,
+                      LocalDateTime end,
+                      BookingStatus status,
+                      Integer itemId,
+                      String itemName,
+                      Integer bookerId,
+                      String bookerName) {
+        this(id, start, end, new ItemShortDto(itemId, itemName), new UserShortDto(bookerId, bookerName), status);
+    }
 }
@@ -1,26 +1,85 @@
 package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Integer> {
+public interface BookingRepository extends JpaRepository<Booking, Integer>, BookingRepositoryCustom {
 
-    List<Booking> findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(Integer bookerId,
-                                                                          Integer itemId,
-                                                                          BookingStatus status,
-                                                                          LocalDateTime end);
+    @Override
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Integer id);
 
-    List<Booking> findBookingByBookerIdOrderByStartDesc(Integer bookerId, PageRequest pageRequest);
+    @Query("SELECT b " +
+            "FROM Booking b " +
+            "WHERE b.booker.id = :bookerId " +
+            "AND b.item.id = :itemId " +
+            "AND b.status = :status " +
+            "AND b.end < :end")
+    List<Booking> findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(@Param("bookerId") Integer bookerId,
+                                                                          @Param("itemId") Integer itemId,
+                                                                          @Param("status") BookingStatus status,
+                                                                          @Param("end") LocalDateTime end);
 
-    List<Booking> findBookingByItemOwnerIdOrderByStartDesc(Integer ownerId, PageRequest pageRequest);
+    @Query("SELECT DISTINCT b.item.id " +
+            "FROM Booking b " +
+            "WHERE b.booker.id = :bookerId")
+    List<Integer> findItemIdsByBookerId(@Param("bookerId") Integer bookerId);
 
-    List<Booking> findAllByItemIdAndStatusOrderByStartAsc(Integer itemId, BookingStatus status);
+    List<Booking> findAllByIdInAndItemOwnerId(Collection<Integer> ids, Integer ownerId);
 
-    List<Booking> findAllByItemIdAndStatusOrderByStartDesc(Integer itemId, BookingStatus status);
+    @Query("SELECT b " +
+            "FROM Booking b " +
+            "WHERE b.item.id IN :itemIds " +
+            "AND b.status = :status " +
+            "AND b.start < :end " +
+            "AND b.end > :start")
+    List<Booking> findAllByItemIdInAndStatusAndStartBeforeAndEndAfter(@Param("itemIds") Collection<Integer> itemIds,
+                                                                      @Param("status") BookingStatus status,
+                                                                      @Param("end") LocalDateTime end,
+                                                                      @Param("start") LocalDateTime start);
+
+    @Query("SELECT b " +
+            "FROM Booking b " +
+            "WHERE b.item.id = :itemId " +
+            "AND b.status = :status " +
+            "AND b.start < :end " +
+            "ORDER BY b.start DESC")
+    List<Booking> findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc(@Param("itemId") Integer itemId,
+                                                                         @Param("status") BookingStatus status,
+                                                                         @Param("end") LocalDateTime end,
+                                                                         PageRequest pageRequest);
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingShortDto(b.id, b.start, b.end, b.item.id, b.booker.id) " +
+            "FROM Booking b " +
+            "WHERE b.item.id IN :itemIds " +
+            "AND b.status = :status " +
+            "AND b.start = (SELECT MAX(l.start) FROM Booking l " +
+            "WHERE l.item.id = b.item.id AND l.status = :status AND l.start < :now)")
+    List<BookingShortDto> findLastBookingsByItemIds(@Param("itemIds") Collection<Integer> itemIds,
+                                                    @Param("status") BookingStatus status,
+                                                    @Param("now") LocalDateTime now);
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingShortDto(b.id, b.start, b.end, b.item.id, b.booker.id) " +
+            "FROM Booking b " +
+            "WHERE b.item.id IN :itemIds " +
+            "AND b.status = :status " +
+            "AND b.start = (SELECT MIN(n.start) FROM Booking n " +
+            "WHERE n.item.id = b.item.id AND n.status = :status AND n.start > :now) " +
+            "AND EXISTS (SELECT o.id FROM Booking o " +
+            "WHERE o.item.id = b.item.id AND o.status = :status AND o.id <> b.id)")
+    List<BookingShortDto> findNextBookingsByItemIds(@Param("itemIds") Collection<Integer> itemIds,
+                                                    @Param("status") BookingStatus status,
+                                                    @Param("now") LocalDateTime now);
 
 }
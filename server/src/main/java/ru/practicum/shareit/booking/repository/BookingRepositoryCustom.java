@@ -0,0 +1,34 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingSearchState;
+import ru.practicum.shareit.pagination.PageCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+
+    List<BookingDto> findAllByBookerIdAndState(Integer bookerId,
+                                               BookingSearchState state,
+                                               LocalDateTime now,
+                                               Pageable pageable);
+
+    List<BookingDto> findAllByItemOwnerIdAndState(Integer ownerId,
+                                                  BookingSearchState state,
+                                                  LocalDateTime now,
+                                                  Pageable pageable);
+
+    List<BookingDto> findAllByBookerIdAndStateAfter(Integer bookerId,
+                                                    BookingSearchState state,
+                                                    LocalDateTime now,
+                                                    PageCursor after,
+                                                    int limit);
+
+    List<BookingDto> findAllByItemOwnerIdAndStateAfter(Integer ownerId,
+                                                       BookingSearchState state,
+                                                       LocalDateTime now,
+                                                       PageCursor after,
+                                                       int limit);
+}
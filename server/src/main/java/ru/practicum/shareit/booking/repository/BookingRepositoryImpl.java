@@ -0,0 +1,128 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingSearchState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+@RequiredArgsConstructor
+public class BookingRepositoryImpl implements BookingRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookingDto> findAllByBookerIdAndState(Integer bookerId,
+                                                      BookingSearchState state,
+                                                      LocalDateTime now,
+                                                      Pageable pageable) {
+        return findAllByUserAndState((item, booker) -> booker.get("id"), bookerId, state, now,
+                null, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    @Override
+    public List<BookingDto> findAllByItemOwnerIdAndState(Integer ownerId,
+                                                         BookingSearchState state,
+                                                         LocalDateTime now,
+                                                         Pageable pageable) {
+        return findAllByUserAndState((item, booker) -> item.get("owner").get("id"), ownerId, state, now,
+                null, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    @Override
+    public List<BookingDto> findAllByBookerIdAndStateAfter(Integer bookerId,
+                                                           BookingSearchState state,
+                                                           LocalDateTime now,
+                                                           PageCursor after,
+                                                           int limit) {
+        return findAllByUserAndState((item, booker) -> booker.get("id"), bookerId, state, now, after, 0, limit);
+    }
+
+    @Override
+    public List<BookingDto> findAllByItemOwnerIdAndStateAfter(Integer ownerId,
+                                                              BookingSearchState state,
+                                                              LocalDateTime now,
+                                                              PageCursor after,
+                                                              int limit) {
+        return findAllByUserAndState((item, booker) -> item.get("owner").get("id"), ownerId, state, now, after, 0, limit);
+    }
+
+    private List<BookingDto> findAllByUserAndState(BiFunction<Join<Booking, Item>, Join<Booking, User>, Path<Integer>> userIdPath,
+                                                   Integer userId,
+                                                   BookingSearchState state,
+                                                   LocalDateTime now,
+                                                   PageCursor after,
+                                                   long offset,
+                                                   int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingDto> query = cb.createQuery(BookingDto.class);
+        Root<Booking> root = query.from(Booking.class);
+        Join<Booking, Item> item = root.join("item");
+        Join<Booking, User> booker = root.join("booker");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(userIdPath.apply(item, booker), userId));
+        predicates.addAll(statePredicates(cb, root, state, now));
+        if (after != null) {
+            predicates.add(afterPredicate(cb, root, after));
+        }
+
+        query.select(cb.construct(BookingDto.class,
+                        root.get("id"), root.get("start"), root.get("end"), root.get("status"),
+                        item.get("id"), item.get("name"), booker.get("id"), booker.get("name")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(root.get("start")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Predicate afterPredicate(CriteriaBuilder cb, Root<Booking> root, PageCursor after) {
+        Path<LocalDateTime> start = root.get("start");
+        return cb.and(
+                cb.lessThanOrEqualTo(start, after.getTimestamp()),
+                cb.or(cb.lessThan(start, after.getTimestamp()), cb.lessThan(root.get("id"), after.getId())));
+    }
+
+    private List<Predicate> statePredicates(CriteriaBuilder cb,
+                                            Root<Booking> root,
+                                            BookingSearchState state,
+                                            LocalDateTime now) {
+        Path<LocalDateTime> start = root.get("start");
+        Path<LocalDateTime> end = root.get("end");
+        switch (state) {
+            case ALL:
+                return List.of();
+            case CURRENT:
+                return List.of(cb.lessThan(start, now), cb.greaterThan(end, now));
+            case PAST:
+                return List.of(cb.lessThan(end, now));
+            case FUTURE:
+                return List.of(cb.greaterThan(end, now));
+            case WAITING:
+                return List.of(cb.equal(root.get("status"), BookingStatus.WAITING));
+            case REJECTED:
+                return List.of(cb.equal(root.get("status"), BookingStatus.REJECTED));
+            default:
+                throw new IllegalArgumentException(String.format("Unknown state: %s", state));
+        }
+    }
+}
@@ -2,6 +2,8 @@ package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
 
@@ -9,14 +11,22 @@ public interface BookingService {
 
     BookingDto create(BookingShortDto bookingShortDto, int userId);
 
+    List<BookingDto> createAll(List<BookingShortDto> bookingShortDtos, int userId);
+
     List<BookingDto> findAllByBooker(String state, int userId, int from, int size);
 
     List<BookingDto> findAllByOwner(String state, int userId, int from, int size);
 
+    List<BookingDto> findAllByBooker(String state, int userId, PageCursor after, int size);
+
+    List<BookingDto> findAllByOwner(String state, int userId, PageCursor after, int size);
+
     BookingDto findById(int id, int userId);
 
     BookingDto update(boolean isApproved, int id, int userId);
 
+    List<BookingStatusUpdateDto> updateAll(boolean isApproved, List<Integer> ids, int userId);
+
     int deleteById(int id);
 
 }
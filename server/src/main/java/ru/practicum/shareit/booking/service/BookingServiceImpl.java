@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingSearchState;
@@ -14,16 +15,25 @@ import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.model.AccessToEntityDeniedException;
 import ru.practicum.shareit.exception.model.EntityNotFoundException;
+import ru.practicum.shareit.exception.model.InvalidCursorException;
 import ru.practicum.shareit.exception.model.ItemUnavailableException;
-import ru.practicum.shareit.exception.model.WrongParamException;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,8 +47,12 @@ public class BookingServiceImpl implements BookingService {
 
     private final UserRepository userRepository;
 
+    private final UserExistenceChecker userExistenceChecker;
+
     private final ItemRepository itemRepository;
 
+    private final ItemDetailsCache itemDetailsCache;
+
     @Override
     @Transactional
     public BookingDto create(BookingShortDto bookingShortDto, int userId) {
@@ -46,54 +60,100 @@ public class BookingServiceImpl implements BookingService {
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
         Item item = itemRepository.findById(bookingShortDto.getItemId())
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. item with id = %s not found", bookingShortDto.getItemId())));
-        if (userId == item.getOwner().getId()) {
-            throw new AccessToEntityDeniedException(String.format("repository. user with id = %s can not book his own item", userId));
-        }
-        if (!item.getAvailable()) {
-            throw new ItemUnavailableException(String.format("repository. item with id = %s not available", item.getId()));
-        }
+        checkItemBookable(item, userId);
+        checkItemNotBooked(item.getId(), bookingShortDto.getStart(), bookingShortDto.getEnd());
         Booking booking = bookingMapper.toBooking(bookingShortDto);
         booking.setBooker(user);
         booking.setItem(item);
         booking.setStatus(BookingStatus.WAITING);
         bookingRepository.save(booking);
+        itemDetailsCache.evict(item.getId());
         log.info("repository. booking with id={} created", booking.getId());
         return bookingMapper.toBookingDto(booking);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<BookingDto> findAllByBooker(String state, int userId, int from, int size) {
-        userRepository.findById(userId)
+    @Transactional
+    public List<BookingDto> createAll(List<BookingShortDto> bookingShortDtos, int userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
-        PageRequest pageRequest = PageRequest.of(from / size, size);
-        List<Booking> bookings = bookingRepository.findBookingByBookerIdOrderByStartDesc(userId, pageRequest);
-        log.info("repository. booking for user with id={} found", userId);
-        return findBookingAccordingToState(bookings, state)
+        List<Integer> itemIds = bookingShortDtos.stream()
+                .map(BookingShortDto::getItemId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Integer, Item> items = itemRepository.findAllById(itemIds)
                 .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<Booking> bookings = new ArrayList<>(bookingShortDtos.size());
+        for (BookingShortDto bookingShortDto : bookingShortDtos) {
+            Item item = items.get(bookingShortDto.getItemId());
+            if (item == null) {
+                throw new EntityNotFoundException(String.format("repository. item with id = %s not found", bookingShortDto.getItemId()));
+            }
+            checkItemBookable(item, userId);
+            Booking booking = bookingMapper.toBooking(bookingShortDto);
+            booking.setBooker(user);
+            booking.setItem(item);
+            booking.setStatus(BookingStatus.WAITING);
+            bookings.add(booking);
+        }
+        checkItemsNotBooked(bookings);
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+        items.keySet().forEach(itemDetailsCache::evict);
+        log.info("repository. {} bookings created by user with id={}", savedBookings.size(), userId);
+        return savedBookings.stream()
                 .map(bookingMapper::toBookingDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> findAllByBooker(String state, int userId, int from, int size) {
+        userExistenceChecker.checkExists(userId);
+        BookingSearchState searchState = parseState(state);
+        PageRequest pageRequest = PageRequest.of(from / size, size);
+        List<BookingDto> bookings = bookingRepository.findAllByBookerIdAndState(userId, searchState, LocalDateTime.now(), pageRequest);
+        log.info("repository. booking for user with id={} found", userId);
+        return bookings;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<BookingDto> findAllByOwner(String state, int ownerId, int from, int size) {
-        userRepository.findById(ownerId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", ownerId)));
+        userExistenceChecker.checkExists(ownerId);
+        BookingSearchState searchState = parseState(state);
         PageRequest pageRequest = PageRequest.of(from / size, size);
-        List<Booking> bookings = bookingRepository.findBookingByItemOwnerIdOrderByStartDesc(ownerId, pageRequest);
+        List<BookingDto> bookings = bookingRepository.findAllByItemOwnerIdAndState(ownerId, searchState, LocalDateTime.now(), pageRequest);
         log.info("repository. booking for user with id={} found", ownerId);
-        return findBookingAccordingToState(bookings, state)
-                .stream()
-                .map(bookingMapper::toBookingDto)
-                .collect(Collectors.toList());
+        return bookings;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> findAllByBooker(String state, int userId, PageCursor after, int size) {
+        userExistenceChecker.checkExists(userId);
+        BookingSearchState searchState = parseState(state);
+        List<BookingDto> bookings = bookingRepository.findAllByBookerIdAndStateAfter(userId, searchState, LocalDateTime.now(),
+                checkBookingCursor(after), size);
+        log.info("repository. booking for user with id={} found", userId);
+        return bookings;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> findAllByOwner(String state, int ownerId, PageCursor after, int size) {
+        userExistenceChecker.checkExists(ownerId);
+        BookingSearchState searchState = parseState(state);
+        List<BookingDto> bookings = bookingRepository.findAllByItemOwnerIdAndStateAfter(ownerId, searchState, LocalDateTime.now(),
+                checkBookingCursor(after), size);
+        log.info("repository. booking for user with id={} found", ownerId);
+        return bookings;
     }
 
     @Override
     @Transactional(readOnly = true)
     public BookingDto findById(int id, int userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
+        userExistenceChecker.checkExists(userId);
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. booking with id = %s not found", id)));
         if (booking.getBooker().getId() != userId && booking.getItem().getOwner().getId() != userId) {
@@ -106,8 +166,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public BookingDto update(boolean isApproved, int id, int userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
+        userExistenceChecker.checkExists(userId);
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. booking with id = %s not found", id)));
         if (booking.getItem().getOwner().getId() != userId) {
@@ -116,53 +175,130 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus().equals(BookingStatus.APPROVED)) {
             throw new ItemUnavailableException(String.format("repository. booking with id = %s is already approved", booking.getId()));
         }
+        if (isApproved) {
+            checkItemNotBooked(booking.getItem().getId(), booking.getStart(), booking.getEnd());
+        }
         booking.setStatus(isApproved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
+        itemDetailsCache.evict(booking.getItem().getId());
         log.info("repository. booking status with id={} updated to {}", id, booking.getStatus());
         return bookingMapper.toBookingDto(booking);
     }
 
+    @Override
+    @Transactional
+    public List<BookingStatusUpdateDto> updateAll(boolean isApproved, List<Integer> ids, int userId) {
+        userExistenceChecker.checkExists(userId);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, Booking> bookings = bookingRepository.findAllByIdInAndItemOwnerId(ids, userId)
+                .stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Map<Integer, List<Booking>> approvedBookings = isApproved
+                ? findApprovedBookings(bookings.values())
+                : Collections.emptyMap();
+        List<BookingStatusUpdateDto> results = new ArrayList<>();
+        for (Integer id : new LinkedHashSet<>(ids)) {
+            results.add(updateStatus(bookings.get(id), id, isApproved, approvedBookings));
+        }
+        log.info("repository. {} booking statuses updated by owner with id={}", results.size(), userId);
+        return results;
+    }
+
     @Override
     @Transactional
     public int deleteById(int id) {
-        bookingRepository.findById(id)
+        Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. booking with id = %s not found", id)));
         bookingRepository.deleteById(id);
+        itemDetailsCache.evict(booking.getItem().getId());
         return id;
     }
 
-    private List<Booking> findBookingAccordingToState(List<Booking> bookings, String state) {
-        BookingSearchState castedState;
+    private BookingSearchState parseState(String state) {
         try {
-            castedState = BookingSearchState.valueOf(state);
+            return BookingSearchState.valueOf(state);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Unknown state: UNSUPPORTED_STATUS");
         }
-        switch (castedState) {
-            case ALL:
-                return bookings;
-            case CURRENT:
-                return bookings.stream()
-                        .filter(b -> b.getStart().isBefore(LocalDateTime.now())
-                                && b.getEnd().isAfter(LocalDateTime.now()))
-                        .collect(Collectors.toList());
-            case WAITING:
-                return bookings.stream()
-                        .filter(b -> b.getStatus().equals(BookingStatus.WAITING))
-                        .collect(Collectors.toList());
-            case PAST:
-                return bookings.stream()
-                        .filter(b -> b.getEnd().isBefore(LocalDateTime.now()))
-                        .collect(Collectors.toList());
-            case FUTURE:
-                return bookings.stream()
-                        .filter(b -> b.getEnd().isAfter(LocalDateTime.now()))
-                        .collect(Collectors.toList());
-            case REJECTED:
-                return bookings.stream()
-                        .filter(b -> b.getStatus().equals(BookingStatus.REJECTED))
-                        .collect(Collectors.toList());
-            default:
-                throw new WrongParamException(String.format("Expected state to be one of next states: %s", Arrays.toString(BookingStatus.values())));
+    }
+
+    private void checkItemBookable(Item item, int userId) {
+        if (userId == item.getOwner().getId()) {
+            throw new AccessToEntityDeniedException(String.format("repository. user with id = %s can not book his own item", userId));
+        }
+        if (!item.getAvailable()) {
+            throw new ItemUnavailableException(String.format("repository. item with id = %s not available", item.getId()));
+        }
+    }
+
+    private void checkItemsNotBooked(List<Booking> bookings) {
+        Map<Integer, List<Booking>> approvedBookings = findApprovedBookings(bookings);
+        for (Booking booking : bookings) {
+            approvedBookings.getOrDefault(booking.getItem().getId(), Collections.emptyList())
+                    .stream()
+                    .filter(b -> b.getStart().isBefore(booking.getEnd()) && b.getEnd().isAfter(booking.getStart()))
+                    .findFirst()
+                    .ifPresent(b -> {
+                        throw new ItemUnavailableException(String.format("repository. item with id = %s already booked by booking with id = %s",
+                                booking.getItem().getId(), b.getId()));
+                    });
+        }
+    }
+
+    private void checkItemNotBooked(int itemId, LocalDateTime start, LocalDateTime end) {
+        bookingRepository.findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc(itemId, BookingStatus.APPROVED, end,
+                        PageRequest.of(0, 1))
+                .stream()
+                .filter(b -> b.getEnd().isAfter(start))
+                .findFirst()
+                .ifPresent(b -> {
+                    throw new ItemUnavailableException(String.format("repository. item with id = %s already booked by booking with id = %s", itemId, b.getId()));
+                });
+    }
+
+    private Map<Integer, List<Booking>> findApprovedBookings(Collection<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Integer> itemIds = bookings.stream()
+                .map(b -> b.getItem().getId())
+                .distinct()
+                .collect(Collectors.toList());
+        LocalDateTime start = bookings.stream().map(Booking::getStart).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime end = bookings.stream().map(Booking::getEnd).max(Comparator.naturalOrder()).orElseThrow();
+        return bookingRepository.findAllByItemIdInAndStatusAndStartBeforeAndEndAfter(itemIds, BookingStatus.APPROVED, end, start)
+                .stream()
+                .collect(Collectors.groupingBy(b -> b.getItem().getId()));
+    }
+
+    private BookingStatusUpdateDto updateStatus(Booking booking, int id, boolean isApproved,
+                                                Map<Integer, List<Booking>> approvedBookings) {
+        if (booking == null) {
+            return new BookingStatusUpdateDto(id, null, String.format("repository. booking with id = %s not found for item owner", id));
+        }
+        if (booking.getStatus().equals(BookingStatus.APPROVED)) {
+            return new BookingStatusUpdateDto(id, booking.getStatus(), String.format("repository. booking with id = %s is already approved", id));
+        }
+        if (isApproved) {
+            List<Booking> itemBookings = approvedBookings.getOrDefault(booking.getItem().getId(), Collections.emptyList());
+            for (Booking approved : itemBookings) {
+                if (approved.getStart().isBefore(booking.getEnd()) && approved.getEnd().isAfter(booking.getStart())) {
+                    return new BookingStatusUpdateDto(id, booking.getStatus(), String.format("repository. item with id = %s already booked by booking with id = %s",
+                            booking.getItem().getId(), approved.getId()));
+                }
+            }
+            approvedBookings.computeIfAbsent(booking.getItem().getId(), itemId -> new ArrayList<>()).add(booking);
+        }
+        booking.setStatus(isApproved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
+        itemDetailsCache.evict(booking.getItem().getId());
+        return new BookingStatusUpdateDto(id, booking.getStatus(), null);
+    }
+
+    private PageCursor checkBookingCursor(PageCursor after) {
+        if (after.getTimestamp() == null) {
+            throw new InvalidCursorException("controller. booking cursor should contain start date");
         }
+        return after;
     }
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.practicum.shareit.exception.model.AccessToEntityDeniedException;
 import ru.practicum.shareit.exception.model.EntityNotFoundException;
+import ru.practicum.shareit.exception.model.InvalidCursorException;
 import ru.practicum.shareit.exception.model.ItemUnavailableException;
 import ru.practicum.shareit.exception.model.WrongParamException;
 
@@ -30,6 +32,7 @@ public class ErrorHandler {
 
     @ExceptionHandler({
             ItemUnavailableException.class,
+            InvalidCursorException.class,
             MethodArgumentNotValidException.class,
             HttpMessageNotReadableException.class,
             MissingRequestHeaderException.class})
@@ -40,7 +43,8 @@ public class ErrorHandler {
     }
 
     @ExceptionHandler({
-            DataIntegrityViolationException.class
+            DataIntegrityViolationException.class,
+            OptimisticLockingFailureException.class
     })
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorResponse handleConflictExceptions(Exception e) {
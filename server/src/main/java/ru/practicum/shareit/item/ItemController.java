@@ -18,6 +18,7 @@ import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentShortDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
 
@@ -38,12 +39,23 @@ public class ItemController {
         return new ResponseEntity<>(itemService.createItem(itemDto, userId), HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<ItemDto>> createItems(@RequestBody List<ItemDto> itemDtos,
+                                                     @RequestHeader(X_SHARER_USER_ID) int userId) {
+        log.info("controller. post. /items/batch. create {} items request", itemDtos.size());
+        return new ResponseEntity<>(itemService.createItems(itemDtos, userId), HttpStatus.CREATED);
+    }
+
     @GetMapping
     public ResponseEntity<List<ItemDto>> findAll(@RequestHeader(X_SHARER_USER_ID) int userId,
                                                  @RequestParam(defaultValue = "0") int from,
-                                                 @RequestParam(defaultValue = "10") int size) {
+                                                 @RequestParam(defaultValue = "10") int size,
+                                                 @RequestParam(required = false) String after) {
         log.info("controller. get. /items. find all items request");
-        return new ResponseEntity<>(itemService.findAll(userId, from, size), HttpStatus.OK);
+        List<ItemDto> items = after == null
+                ? itemService.findAll(userId, from, size)
+                : itemService.findAll(userId, PageCursor.decode(after), size);
+        return new ResponseEntity<>(items, PageCursor.nextCursorHeaders(items, size, i -> PageCursor.of(i.getId())), HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class ItemDetails {
+
+    private final int ownerId;
+
+    private final ItemDto item;
+
+    public LocalDateTime getNextBookingStart() {
+        return item.getNextBooking() == null ? null : item.getNextBooking().getStart();
+    }
+
+    public ItemDto toItemDto(int userId) {
+        boolean isOwner = ownerId == userId;
+        return ItemDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .requestId(item.getRequestId())
+                .lastBooking(isOwner ? item.getLastBooking() : null)
+                .nextBooking(isOwner ? item.getNextBooking() : null)
+                .comments(List.copyOf(item.getComments()))
+                .build();
+    }
+}
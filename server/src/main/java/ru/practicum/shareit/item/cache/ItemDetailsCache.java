@@ -0,0 +1,69 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.util.TransactionUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class ItemDetailsCache {
+
+    private final Cache<Integer, ItemDetails> cache;
+
+    public ItemDetailsCache(@Value("${shareit.item.details-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${shareit.item.details-cache.expire-after:10m}") Duration expireAfter) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new NextBookingExpiry(expireAfter))
+                .recordStats()
+                .build();
+    }
+
+    public ItemDetails get(int itemId, Function<Integer, ItemDetails> loader) {
+        return cache.get(itemId, loader);
+    }
+
+    public void evict(int itemId) {
+        TransactionUtils.afterCommit(() -> {
+            cache.invalidate(itemId);
+            log.debug("cache. item details with id={} evicted", itemId);
+        });
+    }
+
+    private static class NextBookingExpiry implements Expiry<Integer, ItemDetails> {
+
+        private final long expireAfterNanos;
+
+        private NextBookingExpiry(Duration expireAfter) {
+            this.expireAfterNanos = expireAfter.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Integer itemId, ItemDetails details, long currentTime) {
+            LocalDateTime nextBookingStart = details.getNextBookingStart();
+            if (nextBookingStart == null) {
+                return expireAfterNanos;
+            }
+            long untilNextBooking = Duration.between(LocalDateTime.now(), nextBookingStart).toNanos();
+            return Math.max(0, Math.min(expireAfterNanos, untilNextBooking));
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer itemId, ItemDetails details, long currentTime, long currentDuration) {
+            return expireAfterCreate(itemId, details, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Integer itemId, ItemDetails details, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
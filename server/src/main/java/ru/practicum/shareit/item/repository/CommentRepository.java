@@ -1,10 +1,23 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
-    List<Comment> findAllByItemId(Integer itemId);
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c " +
+            "FROM Comment c " +
+            "WHERE c.item.id IN :itemIds")
+    List<Comment> findAllByItemIdIn(@Param("itemIds") Collection<Integer> itemIds);
+
+    @Query("SELECT DISTINCT c.item.id " +
+            "FROM Comment c " +
+            "WHERE c.author.id = :authorId")
+    List<Integer> findItemIdsByAuthorId(@Param("authorId") Integer authorId);
 }
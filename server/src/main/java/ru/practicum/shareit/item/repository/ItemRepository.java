@@ -6,16 +6,43 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Integer> {
     List<Item> findByOwnerIdOrderByIdAsc(Integer ownerId, PageRequest pageRequest);
 
-    List<Item> findByRequestId(Integer requestId);
+    List<Item> findByOwnerIdAndIdGreaterThanOrderByIdAsc(Integer ownerId, Integer id, PageRequest pageRequest);
+
+    @Query("SELECT i.id " +
+            "FROM Item i " +
+            "LEFT JOIN i.request r " +
+            "WHERE i.owner.id = :userId " +
+            "OR r.requester.id = :userId")
+    List<Integer> findIdsByOwnerIdOrRequesterId(@Param("userId") Integer userId);
+
+    @Query("SELECT i " +
+            "FROM Item i " +
+            "WHERE i.request.id = :requestId")
+    List<Item> findByRequestId(@Param("requestId") Integer requestId);
+
+    @Query("SELECT i " +
+            "FROM Item i " +
+            "JOIN FETCH i.request r " +
+            "WHERE r.id IN :requestIds")
+    List<Item> findByRequestIdIn(@Param("requestIds") Collection<Integer> requestIds);
 
     @Query("SELECT i " +
             "FROM Item i " +
             "WHERE i.available = true " +
             "AND (LOWER(i.name) LIKE %:text% OR LOWER(i.description) LIKE %:text%)")
     List<Item> searchAvailableItemsByText(@Param("text") String text, PageRequest pageRequest);
+
+    @Query(value = "SELECT i.* " +
+            "FROM items i " +
+            "WHERE i.is_available = true " +
+            "AND i.search_vector @@ plainto_tsquery('simple', :text) " +
+            "ORDER BY ts_rank(i.search_vector, plainto_tsquery('simple', :text)) DESC, i.item_id",
+            nativeQuery = true)
+    List<Item> searchAvailableItemsByFullText(@Param("text") String text, PageRequest pageRequest);
 }
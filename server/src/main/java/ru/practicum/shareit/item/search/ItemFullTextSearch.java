@@ -0,0 +1,41 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+@Slf4j
+@Component
+public class ItemFullTextSearch {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private final boolean enabled;
+
+    public ItemFullTextSearch(@Value("${shareit.item.search.full-text:false}") boolean fullTextSearch,
+                              DataSource dataSource) {
+        this.enabled = fullTextSearch && isPostgreSql(dataSource);
+        if (fullTextSearch && !enabled) {
+            log.warn("search. full-text item search requires PostgreSQL, LIKE search is used instead");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private static boolean isPostgreSql(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return POSTGRESQL.equals(productName);
+        } catch (MetaDataAccessException e) {
+            log.warn("search. database product name could not be read", e);
+            return false;
+        }
+    }
+}
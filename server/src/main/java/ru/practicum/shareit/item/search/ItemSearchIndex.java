@@ -0,0 +1,251 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.util.TransactionUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final ItemRepository itemRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postingsByGram = new HashMap<>();
+
+    private final Map<Integer, String[]> textsByItemId = new HashMap<>();
+
+    @Value("${shareit.item.search.in-memory-index:false}")
+    private boolean enabled;
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            postingsByGram.clear();
+            textsByItemId.clear();
+            Page<Item> page;
+            int pageNumber = 0;
+            do {
+                page = itemRepository.findAll(PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id")));
+                page.forEach(item -> put(item.getId(), item.getAvailable(), texts(item)));
+            } while (page.hasNext());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("index. item search index rebuilt for {} items", textsByItemId.size());
+    }
+
+    public void index(Item item) {
+        if (!enabled) {
+            return;
+        }
+        int itemId = item.getId();
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+        String[] texts = texts(item);
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                put(itemId, available, texts);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(int itemId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeTexts(itemId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public int[] search(String text) {
+        if (text == null || text.isBlank()) {
+            return EMPTY;
+        }
+        String query = text.toLowerCase();
+        lock.readLock().lock();
+        try {
+            return query.length() < GRAM_LENGTH ? scan(query) : findByGrams(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(int itemId, Boolean available, String[] texts) {
+        removeTexts(itemId);
+        if (!Boolean.TRUE.equals(available)) {
+            return;
+        }
+        textsByItemId.put(itemId, texts);
+        for (String gram : grams(texts)) {
+            postingsByGram.computeIfAbsent(gram, g -> new Postings()).add(itemId);
+        }
+    }
+
+    private void removeTexts(int itemId) {
+        String[] texts = textsByItemId.remove(itemId);
+        if (texts == null) {
+            return;
+        }
+        for (String gram : grams(texts)) {
+            Postings postings = postingsByGram.get(gram);
+            if (postings != null && postings.remove(itemId) && postings.size == 0) {
+                postingsByGram.remove(gram);
+            }
+        }
+    }
+
+    private int[] scan(String query) {
+        return textsByItemId.entrySet().stream()
+                .filter(e -> matches(e.getValue(), query))
+                .mapToInt(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+    }
+
+    private int[] findByGrams(String query) {
+        List<Postings> queryPostings = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Postings postings = postingsByGram.get(gram);
+            if (postings == null) {
+                return EMPTY;
+            }
+            queryPostings.add(postings);
+        }
+        queryPostings.sort(Comparator.comparingInt(postings -> postings.size));
+        int[] candidates = null;
+        for (Postings postings : queryPostings) {
+            candidates = candidates == null
+                    ? Arrays.copyOf(postings.ids, postings.size)
+                    : intersect(candidates, postings.ids, postings.size);
+            if (candidates.length == 0) {
+                return EMPTY;
+            }
+        }
+        return Arrays.stream(candidates)
+                .filter(id -> matches(textsByItemId.get(id), query))
+                .toArray();
+    }
+
+    private static boolean matches(String[] texts, String query) {
+        for (String text : texts) {
+            if (text.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] intersect(int[] left, int[] right, int rightSize) {
+        int[] result = new int[Math.min(left.length, rightSize)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length && j < rightSize) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[k++] = left[i++];
+                j++;
+            }
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    private static String[] texts(Item item) {
+        return new String[]{item.getName().toLowerCase(), item.getDescription().toLowerCase()};
+    }
+
+    private static Set<String> grams(String... texts) {
+        Set<String> grams = new HashSet<>();
+        for (String text : texts) {
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                grams.add(text.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    private static class Postings {
+
+        private int[] ids = new int[4];
+
+        private int size;
+
+        private void add(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.service;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentShortDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
 
@@ -10,8 +11,12 @@ public interface ItemService {
 
     ItemDto createItem(ItemDto itemDto, int userId);
 
+    List<ItemDto> createItems(List<ItemDto> itemDtos, int userId);
+
     List<ItemDto> findAll(int userId, int from, int size);
 
+    List<ItemDto> findAll(int userId, PageCursor after, int size);
+
     ItemDto findById(int id, int userId);
 
     ItemDto update(int id, ItemDto itemDto, int userId);
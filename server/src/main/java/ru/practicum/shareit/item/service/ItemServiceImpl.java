@@ -5,13 +5,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.mapper.BookingMapper;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.model.EntityNotFoundException;
 import ru.practicum.shareit.exception.model.ItemUnavailableException;
 import ru.practicum.shareit.exception.model.WrongParamException;
+import ru.practicum.shareit.item.cache.ItemDetails;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentShortDto;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -21,13 +22,24 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemFullTextSearch;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,25 +51,30 @@ public class ItemServiceImpl implements ItemService {
 
     private final CommentMapper commentMapper;
 
-    private final BookingMapper bookingMapper;
-
     private final ItemRepository itemRepository;
 
     private final UserRepository userRepository;
 
+    private final UserExistenceChecker userExistenceChecker;
+
     private final BookingRepository bookingRepository;
 
     private final CommentRepository commentRepository;
 
     private final ItemRequestRepository itemRequestRepository;
 
+    private final ItemSearchIndex itemSearchIndex;
+
+    private final ItemDetailsCache itemDetailsCache;
+
+    private final ItemFullTextSearch itemFullTextSearch;
+
     @Override
     @Transactional
     public ItemDto createItem(ItemDto itemDto, int userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
+        userExistenceChecker.checkExists(userId);
         Item item = itemMapper.toItem(itemDto);
-        item.setOwner(user);
+        item.setOwner(userRepository.getReferenceById(userId));
         if (itemDto.getRequestId() != null) {
             item.setRequest(
                     itemRequestRepository.findById(itemDto.getRequestId())
@@ -65,37 +82,68 @@ public class ItemServiceImpl implements ItemService {
             );
         }
         itemRepository.save(item);
+        itemSearchIndex.index(item);
         log.info("repository. item with id={} created", item.getId());
         return itemMapper.toItemDto(item);
     }
 
+    @Override
+    @Transactional
+    public List<ItemDto> createItems(List<ItemDto> itemDtos, int userId) {
+        userExistenceChecker.checkExists(userId);
+        User owner = userRepository.getReferenceById(userId);
+        Map<Integer, ItemRequest> requests = findItemRequests(itemDtos);
+        List<Item> items = new ArrayList<>(itemDtos.size());
+        for (ItemDto itemDto : itemDtos) {
+            Item item = itemMapper.toItem(itemDto);
+            item.setOwner(owner);
+            if (itemDto.getRequestId() != null) {
+                item.setRequest(requests.get(itemDto.getRequestId()));
+            }
+            items.add(item);
+        }
+        List<Item> savedItems = itemRepository.saveAll(items);
+        savedItems.forEach(itemSearchIndex::index);
+        log.info("repository. {} items created for user with id={}", savedItems.size(), userId);
+        return savedItems.stream()
+                .map(itemMapper::toItemDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ItemDto> findAll(int userId, int from, int size) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
+        userExistenceChecker.checkExists(userId);
         PageRequest pageRequest = PageRequest.of(from / size, size);
         log.info("repository. item for user with id={} found", userId);
-        return itemRepository.findByOwnerIdOrderByIdAsc(userId, pageRequest)
+        List<ItemDto> items = itemRepository.findByOwnerIdOrderByIdAsc(userId, pageRequest)
                 .stream()
                 .map(itemMapper::toItemDto)
-                .map(this::setBookingsToItem)
-                .map(this::setCommentsToItem)
                 .collect(Collectors.toList());
+        setBookingsToItems(items);
+        setCommentsToItems(items);
+        return items;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> findAll(int userId, PageCursor after, int size) {
+        userExistenceChecker.checkExists(userId);
+        log.info("repository. item for user with id={} found", userId);
+        List<ItemDto> items = itemRepository.findByOwnerIdAndIdGreaterThanOrderByIdAsc(userId, after.getId(), PageRequest.of(0, size))
+                .stream()
+                .map(itemMapper::toItemDto)
+                .collect(Collectors.toList());
+        setBookingsToItems(items);
+        setCommentsToItems(items);
+        return items;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ItemDto findById(int id, int userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
-        Item item = itemRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. item with id = %s not found", userId)));
-        ItemDto itemDto = itemMapper.toItemDto(item);
-        if (item.getOwner().getId() == userId) {
-            setBookingsToItem(itemDto);
-        }
-        setCommentsToItem(itemDto);
+        userExistenceChecker.checkExists(userId);
+        ItemDto itemDto = itemDetailsCache.get(id, this::loadItemDetails).toItemDto(userId);
         log.info("repository. item with id={} found", id);
         return itemDto;
     }
@@ -103,14 +151,15 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional
     public ItemDto update(int id, ItemDto itemDto, int userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
+        userExistenceChecker.checkExists(userId);
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. item with id = %s not found", id)));
-        if (!item.getOwner().getId().equals(user.getId())) {
+        if (item.getOwner().getId() != userId) {
             throw new WrongParamException(String.format("repository. item with owner id = %s not found", userId));
         }
         updateItemFields(item, itemMapper.toItem(itemDto));
+        itemSearchIndex.index(item);
+        itemDetailsCache.evict(id);
         log.info("repository. item with id={} updated", id);
         return itemMapper.toItemDto(item);
     }
@@ -121,6 +170,8 @@ public class ItemServiceImpl implements ItemService {
         itemRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. item with id = %s not found", id)));
         itemRepository.deleteById(id);
+        itemSearchIndex.remove(id);
+        itemDetailsCache.evict(id);
         log.info("repository. item with id={} deleted", id);
         return id;
     }
@@ -133,8 +184,13 @@ public class ItemServiceImpl implements ItemService {
         }
         PageRequest pageRequest = PageRequest.of(from / size, size);
         log.info("repository. searching for items with text={}", text);
-        return itemRepository.searchAvailableItemsByText(text.toLowerCase(), pageRequest)
-                .stream()
+        if (itemSearchIndex.isReady()) {
+            return searchInIndex(text, pageRequest);
+        }
+        List<Item> items = itemFullTextSearch.isEnabled()
+                ? itemRepository.searchAvailableItemsByFullText(text, pageRequest)
+                : itemRepository.searchAvailableItemsByText(text.toLowerCase(), pageRequest);
+        return items.stream()
                 .map(itemMapper::toItemDto)
                 .collect(Collectors.toList());
     }
@@ -156,9 +212,56 @@ public class ItemServiceImpl implements ItemService {
         comment.setAuthor(user);
         comment.setCreated(LocalDateTime.now());
         commentRepository.save(comment);
+        itemDetailsCache.evict(itemId);
         return commentMapper.toCommentDto(comment);
     }
 
+    private Map<Integer, ItemRequest> findItemRequests(List<ItemDto> itemDtos) {
+        Set<Integer> requestIds = itemDtos.stream()
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, ItemRequest> requests = itemRequestRepository.findAllById(requestIds)
+                .stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        requestIds.stream()
+                .filter(id -> !requests.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new EntityNotFoundException(String.format("repository. item request with id = %s not found", id));
+                });
+        return requests;
+    }
+
+    private ItemDetails loadItemDetails(int id) {
+        Item item = itemRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. item with id = %s not found", id)));
+        ItemDto itemDto = itemMapper.toItemDto(item);
+        setBookingsToItems(List.of(itemDto));
+        setCommentsToItems(List.of(itemDto));
+        return new ItemDetails(item.getOwner().getId(), itemDto);
+    }
+
+    private List<ItemDto> searchInIndex(String text, PageRequest pageRequest) {
+        int[] itemIds = itemSearchIndex.search(text);
+        int fromIndex = (int) Math.min(pageRequest.getOffset(), itemIds.length);
+        int toIndex = Math.min(fromIndex + pageRequest.getPageSize(), itemIds.length);
+        List<Integer> pageIds = Arrays.stream(itemIds, fromIndex, toIndex)
+                .boxed()
+                .collect(Collectors.toList());
+        Map<Integer, Item> items = itemRepository.findAllById(pageIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return pageIds.stream()
+                .map(items::get)
+                .filter(i -> i != null && i.getAvailable())
+                .map(itemMapper::toItemDto)
+                .collect(Collectors.toList());
+    }
+
     private void updateItemFields(Item item, Item updates) {
         if (updates.getName() != null && !updates.getName().isBlank()) {
             item.setName(updates.getName());
@@ -171,32 +274,35 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
-    private ItemDto setBookingsToItem(ItemDto itemDto) {
+    private void setBookingsToItems(List<ItemDto> items) {
+        if (items.isEmpty()) {
+            return;
+        }
         LocalDateTime dateTime = LocalDateTime.now();
-
-        List<Booking> bookingsDesc =
-                bookingRepository.findAllByItemIdAndStatusOrderByStartDesc(itemDto.getId(), BookingStatus.APPROVED);
-        List<Booking> bookingsAsc =
-                bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(itemDto.getId(), BookingStatus.APPROVED);
-
-        Booking lastBooking = bookingsDesc.stream()
-                .filter(b -> b.getEnd().isBefore(dateTime) || (b.getStart().isBefore(dateTime) && b.getEnd().isAfter(dateTime)))
-                .findFirst()
-                .orElse(null);
-        Booking nextBooking = bookingsAsc.stream()
-                .filter(b -> b.getStart().isAfter(dateTime))
-                .findFirst()
-                .orElse(null);
-        itemDto.setLastBooking(lastBooking == null ? null : bookingMapper.toBookingShortDto(lastBooking));
-        itemDto.setNextBooking(bookingsAsc.size() <= 1 || nextBooking == null ? null : bookingMapper.toBookingShortDto(nextBooking));
-        return itemDto;
+        List<Integer> itemIds = items.stream().map(ItemDto::getId).collect(Collectors.toList());
+        Map<Integer, BookingShortDto> lastBookings = bookingRepository
+                .findLastBookingsByItemIds(itemIds, BookingStatus.APPROVED, dateTime)
+                .stream()
+                .collect(Collectors.toMap(BookingShortDto::getItemId, Function.identity(), (b1, b2) -> b1));
+        Map<Integer, BookingShortDto> nextBookings = bookingRepository
+                .findNextBookingsByItemIds(itemIds, BookingStatus.APPROVED, dateTime)
+                .stream()
+                .collect(Collectors.toMap(BookingShortDto::getItemId, Function.identity(), (b1, b2) -> b1));
+        items.forEach(i -> {
+            i.setLastBooking(lastBookings.get(i.getId()));
+            i.setNextBooking(nextBookings.get(i.getId()));
+        });
     }
 
-    private ItemDto setCommentsToItem(ItemDto itemDto) {
-        itemDto.setComments(commentRepository.findAllByItemId(itemDto.getId())
+    private void setCommentsToItems(List<ItemDto> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<CommentDto>> commentsByItemId = commentRepository.findAllByItemIdIn(
+                        items.stream().map(ItemDto::getId).collect(Collectors.toList()))
                 .stream()
-                .map(commentMapper::toCommentDto)
-                .collect(Collectors.toList()));
-        return itemDto;
+                .collect(Collectors.groupingBy(c -> c.getItem().getId(),
+                        Collectors.mapping(commentMapper::toCommentDto, Collectors.toList())));
+        items.forEach(i -> i.setComments(commentsByItemId.getOrDefault(i.getId(), Collections.emptyList())));
     }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
@@ -45,9 +46,15 @@ public class ItemRequestController {
     @GetMapping("/all")
     public ResponseEntity<List<ItemRequestDto>> findAllFromOthers(@RequestHeader(X_SHARER_USER_ID) int userId,
                                                                   @RequestParam(defaultValue = "0") int from,
-                                                                  @RequestParam(defaultValue = "10") int size) {
+                                                                  @RequestParam(defaultValue = "10") int size,
+                                                                  @RequestParam(required = false) String after) {
         log.info("controller. get. /requests. find all item requests from others users");
-        return new ResponseEntity<>(itemRequestService.findAllFromOthers(userId, from, size), HttpStatus.OK);
+        List<ItemRequestDto> itemRequests = after == null
+                ? itemRequestService.findAllFromOthers(userId, from, size)
+                : itemRequestService.findAllFromOthers(userId, PageCursor.decode(after), size);
+        return new ResponseEntity<>(itemRequests,
+                PageCursor.nextCursorHeaders(itemRequests, size, r -> PageCursor.of(r.getCreated(), r.getId())),
+                HttpStatus.OK);
     }
 
     @GetMapping("/{itemRequestId}")
@@ -2,14 +2,30 @@ package ru.practicum.shareit.request.repository;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Integer> {
 
-    List<ItemRequest> findAllByRequesterId(Integer requesterId);
+    @Query("SELECT r " +
+            "FROM ItemRequest r " +
+            "WHERE r.requester.id = :requesterId")
+    List<ItemRequest> findAllByRequesterId(@Param("requesterId") Integer requesterId);
 
     List<ItemRequest> findAllByRequesterIdNot(PageRequest pageRequest, Integer requesterId);
 
+    @Query("SELECT r " +
+            "FROM ItemRequest r " +
+            "WHERE r.requester.id <> :requesterId " +
+            "AND r.created <= :created AND (r.created < :created OR r.id < :id) " +
+            "ORDER BY r.created DESC, r.id DESC")
+    List<ItemRequest> findAllByRequesterIdNotAfter(@Param("requesterId") Integer requesterId,
+                                                   @Param("created") LocalDateTime created,
+                                                   @Param("id") Integer id,
+                                                   PageRequest pageRequest);
+
 }
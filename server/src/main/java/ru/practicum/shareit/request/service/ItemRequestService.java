@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.List;
@@ -12,5 +13,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> findAllFromOthers(int userId, int from, int size);
 
+    List<ItemRequestDto> findAllFromOthers(int userId, PageCursor after, int size);
+
     ItemRequestDto findById(int itemRequestId, int userId);
 }
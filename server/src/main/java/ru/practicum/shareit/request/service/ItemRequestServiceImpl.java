@@ -6,17 +6,22 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.model.EntityNotFoundException;
+import ru.practicum.shareit.exception.model.InvalidCursorException;
+import ru.practicum.shareit.item.dto.ItemDtoForRequests;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
-import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,16 +36,17 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     private final UserRepository userRepository;
 
+    private final UserExistenceChecker userExistenceChecker;
+
     private final ItemRepository itemRepository;
 
     @Override
     @Transactional
     public ItemRequestDto create(ItemRequestDto itemRequestDto, int userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
+        userExistenceChecker.checkExists(userId);
         ItemRequest itemRequest = itemRequestMapper.toItemRequest(itemRequestDto);
         itemRequest.setCreated(LocalDateTime.now());
-        itemRequest.setRequester(user);
+        itemRequest.setRequester(userRepository.getReferenceById(userId));
         itemRequestRepository.save(itemRequest);
         return itemRequestMapper.toItemRequestDto(itemRequest);
     }
@@ -48,40 +54,47 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> findAllByRequester(int userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
-        List<ItemRequestDto> itemRequests = itemRequestRepository.findAllByRequesterId(user.getId())
+        userExistenceChecker.checkExists(userId);
+        List<ItemRequestDto> itemRequests = itemRequestRepository.findAllByRequesterId(userId)
                 .stream()
                 .map(itemRequestMapper::toItemRequestDto)
                 .collect(Collectors.toList());
-        itemRequests.forEach(i -> i.setItems(itemRepository.findByRequestId(i.getId())
-                .stream()
-                .map(itemMapper::toItemDtoForRequests)
-                .collect(Collectors.toList())));
+        setItemsToRequests(itemRequests);
         return itemRequests;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> findAllFromOthers(int userId, int from, int size) {
-        PageRequest pageRequest = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "created"));
+        PageRequest pageRequest = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "created", "id"));
 
         List<ItemRequestDto> itemRequests = itemRequestRepository.findAllByRequesterIdNot(pageRequest, userId)
                 .stream()
                 .map(itemRequestMapper::toItemRequestDto)
                 .collect(Collectors.toList());
-        itemRequests.forEach(i -> i.setItems(itemRepository.findByRequestId(i.getId())
+        setItemsToRequests(itemRequests);
+        return itemRequests;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemRequestDto> findAllFromOthers(int userId, PageCursor after, int size) {
+        if (after.getTimestamp() == null) {
+            throw new InvalidCursorException("controller. item request cursor should contain creation date");
+        }
+        List<ItemRequestDto> itemRequests = itemRequestRepository.findAllByRequesterIdNotAfter(userId, after.getTimestamp(),
+                        after.getId(), PageRequest.of(0, size))
                 .stream()
-                .map(itemMapper::toItemDtoForRequests)
-                .collect(Collectors.toList())));
+                .map(itemRequestMapper::toItemRequestDto)
+                .collect(Collectors.toList());
+        setItemsToRequests(itemRequests);
         return itemRequests;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ItemRequestDto findById(int itemRequestId, int userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", userId)));
+        userExistenceChecker.checkExists(userId);
         ItemRequest itemRequest = itemRequestRepository.findById(itemRequestId)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. item request with id = %s not found", itemRequestId)));
         ItemRequestDto itemRequestDto = itemRequestMapper.toItemRequestDto(itemRequest);
@@ -91,4 +104,18 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 .collect(Collectors.toList()));
         return itemRequestDto;
     }
+
+    private void setItemsToRequests(List<ItemRequestDto> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return;
+        }
+        List<Integer> itemRequestIds = itemRequests.stream()
+                .map(ItemRequestDto::getId)
+                .collect(Collectors.toList());
+        Map<Integer, List<ItemDtoForRequests>> itemsByRequestId = itemRepository.findByRequestIdIn(itemRequestIds)
+                .stream()
+                .map(itemMapper::toItemDtoForRequests)
+                .collect(Collectors.groupingBy(ItemDtoForRequests::getRequestId));
+        itemRequests.forEach(i -> i.setItems(itemsByRequestId.getOrDefault(i.getId(), Collections.emptyList())));
+    }
 }
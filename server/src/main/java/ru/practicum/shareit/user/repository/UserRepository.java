@@ -1,7 +1,14 @@
 package ru.practicum.shareit.user.repository;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.user.model.User;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
+
+    String USER_EXISTS_CACHE = "userExists";
+
+    @Override
+    @Cacheable(cacheNames = USER_EXISTS_CACHE, unless = "!#result")
+    boolean existsById(Integer id);
 }
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.model.EntityNotFoundException;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+@Component
+@RequiredArgsConstructor
+public class UserExistenceChecker {
+
+    private final UserRepository userRepository;
+
+    public void checkExists(int userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(String.format("repository. user with id = %s not found", userId));
+        }
+    }
+}
@@ -2,15 +2,25 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.model.EntityNotFoundException;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.TransactionUtils;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,6 +32,18 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
 
+    private final ItemRepository itemRepository;
+
+    private final BookingRepository bookingRepository;
+
+    private final CommentRepository commentRepository;
+
+    private final ItemSearchIndex itemSearchIndex;
+
+    private final ItemDetailsCache itemDetailsCache;
+
+    private final CacheManager cacheManager;
+
     @Override
     @Transactional
     public UserDto create(UserDto userDto) {
@@ -68,7 +90,22 @@ public class UserServiceImpl implements UserService {
     public int deleteById(int id) {
         userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("repository. user with id = %s not found", id)));
+        List<Integer> deletedItemIds = itemRepository.findIdsByOwnerIdOrRequesterId(id);
+        Set<Integer> affectedItemIds = new HashSet<>(deletedItemIds);
+        affectedItemIds.addAll(bookingRepository.findItemIdsByBookerId(id));
+        affectedItemIds.addAll(commentRepository.findItemIdsByAuthorId(id));
         userRepository.deleteById(id);
+        deletedItemIds.forEach(itemSearchIndex::remove);
+        affectedItemIds.forEach(itemDetailsCache::evict);
+        TransactionUtils.afterCommit(() -> evictUserExists(id));
+        log.info("repository. user with id={} deleted with {} items", id, deletedItemIds.size());
         return id;
     }
+
+    private void evictUserExists(int id) {
+        Cache cache = cacheManager.getCache(UserRepository.USER_EXISTS_CACHE);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
 }
@@ -4,6 +4,12 @@ DROP TABLE IF EXISTS items;
 DROP TABLE IF EXISTS item_requests;
 DROP TABLE IF EXISTS users;
 
+DROP SEQUENCE IF EXISTS booking_seq;
+DROP SEQUENCE IF EXISTS items_seq;
+
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS booking_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS users (
     user_id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     name    VARCHAR(255) NOT NULL,
@@ -18,21 +24,23 @@ CREATE TABLE IF NOT EXISTS item_requests (
 );
 
 CREATE TABLE IF NOT EXISTS items (
-    item_id         INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    item_id         INTEGER PRIMARY KEY,
     name            VARCHAR(255) NOT NULL,
     description     VARCHAR(255) NOT NULL,
     is_available    BOOLEAN NOT NULL,
     owner_id        INTEGER REFERENCES users(user_id) ON DELETE CASCADE,
-    item_request_id INTEGER REFERENCES item_requests(item_request_id) ON DELETE CASCADE
+    item_request_id INTEGER REFERENCES item_requests(item_request_id) ON DELETE CASCADE,
+    version         INTEGER NOT NULL DEFAULT 0
 );
 
 CREATE TABLE IF NOT EXISTS booking (
-    booking_id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_id INTEGER PRIMARY KEY,
     start_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
     end_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
     item_id    INTEGER REFERENCES items(item_id) ON DELETE CASCADE,
     booker_id  INTEGER REFERENCES users(user_id) ON DELETE CASCADE,
-    status     VARCHAR(255) NOT NULL
+    status     VARCHAR(255) NOT NULL,
+    version    INTEGER NOT NULL DEFAULT 0
 );
 
 CREATE TABLE IF NOT EXISTS comments (
@@ -41,4 +49,15 @@ CREATE TABLE IF NOT EXISTS comments (
     item_id    INTEGER REFERENCES items(item_id) ON DELETE CASCADE,
     author_id  INTEGER REFERENCES users(user_id) ON DELETE CASCADE,
     created_at TIMESTAMP WITHOUT TIME ZONE
-);
\ No newline at end of file
+);
+
+CREATE INDEX IF NOT EXISTS item_requests_requester_created_idx ON item_requests (requester_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS item_requests_created_idx ON item_requests (created_at DESC, item_request_id DESC);
+
+CREATE INDEX IF NOT EXISTS items_owner_idx ON items (owner_id, item_id);
+CREATE INDEX IF NOT EXISTS items_request_idx ON items (item_request_id);
+
+CREATE INDEX IF NOT EXISTS booking_booker_start_idx ON booking (booker_id, start_at DESC, booking_id DESC);
+CREATE INDEX IF NOT EXISTS booking_item_status_start_idx ON booking (item_id, status, start_at);
+
+CREATE INDEX IF NOT EXISTS comments_item_idx ON comments (item_id);
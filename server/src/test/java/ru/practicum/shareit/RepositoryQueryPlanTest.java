@@ -0,0 +1,280 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.util.ClassUtils;
+import ru.practicum.shareit.booking.model.BookingSearchState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+
+    private static final int USERS_COUNT = 20;
+
+    private static final int ITEMS_PER_USER = 5;
+
+    private static final int BOOKINGS_PER_ITEM = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @BeforeAll
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        int itemId = 0;
+        int bookingId = 0;
+        for (int userId = 1; userId <= USERS_COUNT; userId++) {
+            execute("INSERT INTO users (user_id, name, email) VALUES (?, ?, ?)",
+                    userId, "user " + userId, "user" + userId + "@mail.com");
+            execute("INSERT INTO item_requests (item_request_id, description, requester_id, created_at) " +
+                    "VALUES (?, ?, ?, ?)", userId, "request " + userId, userId, now.minusDays(userId));
+        }
+        for (int userId = 1; userId <= USERS_COUNT; userId++) {
+            for (int i = 0; i < ITEMS_PER_USER; i++) {
+                itemId++;
+                execute("INSERT INTO items (item_id, name, description, is_available, owner_id, item_request_id) " +
+                                "VALUES (?, ?, ?, true, ?, ?)",
+                        itemId, "item " + itemId, "description " + itemId, userId, i == 0 ? userId : null);
+                int bookerId = userId % USERS_COUNT + 1;
+                for (int b = 0; b < BOOKINGS_PER_ITEM; b++) {
+                    bookingId++;
+                    execute("INSERT INTO booking (booking_id, start_at, end_at, item_id, booker_id, status) " +
+                                    "VALUES (?, ?, ?, ?, ?, ?)",
+                            bookingId, now.plusDays(b - 5), now.plusDays(b - 4), itemId, bookerId, b % 2 == 0 ? "APPROVED" : "WAITING");
+                }
+                execute("INSERT INTO comments (text, item_id, author_id, created_at) VALUES (?, ?, ?, ?)",
+                        "comment " + itemId, itemId, bookerId, now);
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest page = PageRequest.of(1, 10);
+        PageCursor bookingCursor = PageCursor.of(now, 50);
+        return Stream.of(
+                Arguments.of("BookingRepository.findAllByBookerIdAndState", (RepositoryCall) test ->
+                        test.bookingRepository.findAllByBookerIdAndState(2, BookingSearchState.ALL, now, page)),
+                Arguments.of("BookingRepository.findAllByBookerIdAndStateAfter", (RepositoryCall) test ->
+                        test.bookingRepository.findAllByBookerIdAndStateAfter(2, BookingSearchState.ALL, now, bookingCursor, 10)),
+                Arguments.of("BookingRepository.findAllByItemOwnerIdAndState", (RepositoryCall) test ->
+                        test.bookingRepository.findAllByItemOwnerIdAndState(1, BookingSearchState.ALL, now, page)),
+                Arguments.of("BookingRepository.findAllByItemOwnerIdAndStateAfter", (RepositoryCall) test ->
+                        test.bookingRepository.findAllByItemOwnerIdAndStateAfter(1, BookingSearchState.ALL, now, bookingCursor, 10)),
+                Arguments.of("BookingRepository.findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore", (RepositoryCall) test ->
+                        test.bookingRepository.findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(2, 1, BookingStatus.APPROVED, now)),
+                Arguments.of("BookingRepository.findAllByItemIdInAndStatusAndStartBeforeAndEndAfter", (RepositoryCall) test ->
+                        test.bookingRepository.findAllByItemIdInAndStatusAndStartBeforeAndEndAfter(
+                                List.of(1, 2, 3), BookingStatus.APPROVED, now.plusDays(1), now)),
+                Arguments.of("BookingRepository.findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc", (RepositoryCall) test ->
+                        test.bookingRepository.findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+                                1, BookingStatus.APPROVED, now, PageRequest.of(0, 1))),
+                Arguments.of("BookingRepository.findLastBookingsByItemIds", (RepositoryCall) test ->
+                        test.bookingRepository.findLastBookingsByItemIds(List.of(1, 2, 3), BookingStatus.APPROVED, now)),
+                Arguments.of("BookingRepository.findNextBookingsByItemIds", (RepositoryCall) test ->
+                        test.bookingRepository.findNextBookingsByItemIds(List.of(1, 2, 3), BookingStatus.APPROVED, now)),
+                Arguments.of("ItemRepository.findByOwnerIdOrderByIdAsc", (RepositoryCall) test ->
+                        test.itemRepository.findByOwnerIdOrderByIdAsc(1, PageRequest.of(0, 10))),
+                Arguments.of("ItemRepository.findByOwnerIdAndIdGreaterThanOrderByIdAsc", (RepositoryCall) test ->
+                        test.itemRepository.findByOwnerIdAndIdGreaterThanOrderByIdAsc(1, 2, PageRequest.of(0, 10))),
+                Arguments.of("ItemRepository.findByRequestId", (RepositoryCall) test ->
+                        test.itemRepository.findByRequestId(1)),
+                Arguments.of("ItemRepository.findByRequestIdIn", (RepositoryCall) test ->
+                        test.itemRepository.findByRequestIdIn(List.of(1, 2, 3))),
+                Arguments.of("CommentRepository.findAllByItemIdIn", (RepositoryCall) test ->
+                        test.commentRepository.findAllByItemIdIn(List.of(1, 2, 3))),
+                Arguments.of("ItemRequestRepository.findAllByRequesterId", (RepositoryCall) test ->
+                        test.itemRequestRepository.findAllByRequesterId(1)),
+                Arguments.of("ItemRequestRepository.findAllByRequesterIdNotAfter", (RepositoryCall) test ->
+                        test.itemRequestRepository.findAllByRequesterIdNotAfter(1, now.minusDays(5), 5, PageRequest.of(0, 10)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryDoesNotScanTable(String repositoryMethod, RepositoryCall repositoryCall) {
+        entityManager.clear();
+        List<CapturedStatement> statements = StatementCapture.capture(() -> repositoryCall.call(this));
+
+        assertFalse(statements.isEmpty(), () -> repositoryMethod + " did not run any statement");
+        for (CapturedStatement statement : statements) {
+            String plan = explain(statement);
+            assertFalse(plan.contains("tableScan"), () -> repositoryMethod + " scans a table:\n" + plan);
+        }
+    }
+
+    private String explain(CapturedStatement statement) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql)) {
+                for (Map.Entry<Integer, Object> parameter : statement.parameters.entrySet()) {
+                    explain.setObject(parameter.getKey(), parameter.getValue());
+                }
+                List<String> rows = new ArrayList<>();
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.add(resultSet.getString(1));
+                    }
+                }
+                return String.join("\n", rows);
+            }
+        });
+    }
+
+    private void execute(String sql, Object... parameters) {
+        jdbcTemplate.update(sql, parameters);
+    }
+
+    @FunctionalInterface
+    interface RepositoryCall {
+
+        void call(RepositoryQueryPlanTest test);
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource)) {
+                        return bean;
+                    }
+                    return proxy(bean, (target, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        return result instanceof Connection ? capturingConnection((Connection) result) : result;
+                    });
+                }
+            };
+        }
+
+        private static Connection capturingConnection(Connection connection) {
+            return (Connection) proxy(connection, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                    return capturingStatement((PreparedStatement) result, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capturingStatement(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) proxy(statement, (target, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("executeQuery")) {
+                    StatementCapture.record(new CapturedStatement(sql, new TreeMap<>(parameters)));
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        private static Object proxy(Object target, StatementHandler handler) {
+            return Proxy.newProxyInstance(target.getClass().getClassLoader(), ClassUtils.getAllInterfaces(target),
+                    (proxy, method, args) -> handler.handle(target, method, args));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface StatementHandler {
+
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    static class StatementCapture {
+
+        private static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        private static volatile boolean recording;
+
+        static List<CapturedStatement> capture(Runnable action) {
+            STATEMENTS.clear();
+            recording = true;
+            try {
+                action.run();
+            } finally {
+                recording = false;
+            }
+            return new ArrayList<>(STATEMENTS);
+        }
+
+        private static void record(CapturedStatement statement) {
+            if (recording) {
+                STATEMENTS.add(statement);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    static class CapturedStatement {
+
+        private final String sql;
+
+        private final Map<Integer, Object> parameters;
+    }
+}
@@ -1,16 +1,23 @@
 package ru.practicum.shareit.booking;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exception.model.AccessToEntityDeniedException;
 import ru.practicum.shareit.exception.model.EntityNotFoundException;
+import ru.practicum.shareit.exception.model.InvalidCursorException;
 import ru.practicum.shareit.item.ItemController;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.UserController;
 import ru.practicum.shareit.user.dto.UserDto;
 
@@ -18,7 +25,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -33,6 +44,9 @@ class BookingControllerTest {
     @Autowired
     private UserController userController;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @BeforeEach
     void setUp() {
         UserDto owner = UserDto.builder()
@@ -72,6 +86,25 @@ class BookingControllerTest {
         assertEquals(1, foundBooking.getItem().getId());
     }
 
+    @Test
+    void createAll() {
+        List<BookingDto> createdBookings = bookingController.createAll(
+                List.of(makeBookingShortDto(1), makeBookingShortDto(1)), 2).getBody();
+
+        assertEquals(2, createdBookings.size());
+        assertEquals(List.of(2, 3), List.of(createdBookings.get(0).getId(), createdBookings.get(1).getId()));
+        assertEquals(3, bookingController.findAllByOwner("ALL", 1, 0, 10, null).getBody().size());
+    }
+
+    @Test
+    void createAllWhenOwnItem() {
+        assertThrows(
+                AccessToEntityDeniedException.class,
+                () -> bookingController.createAll(List.of(makeBookingShortDto(1)), 1)
+        );
+        assertEquals(1, bookingController.findAllByOwner("ALL", 1, 0, 10, null).getBody().size());
+    }
+
     @Test
     void createWhenUserNotExists() {
         assertThrows(
@@ -90,21 +123,44 @@ class BookingControllerTest {
 
     @Test
     void findAllByBooker() {
-        List<BookingDto> foundBooking = bookingController.findAllByBooker("ALL", 2, 0, 10).getBody();
+        List<BookingDto> foundBooking = bookingController.findAllByBooker("ALL", 2, 0, 10, null).getBody();
         assertEquals(1, foundBooking.size());
     }
 
+    @Test
+    void findAllByBookerWithCursor() {
+        bookingController.create(makeBookingShortDto(1), 2);
+        bookingController.create(makeBookingShortDto(1), 2);
+
+        ResponseEntity<List<BookingDto>> firstPage = bookingController.findAllByBooker("ALL", 2, 0, 2, null);
+        String after = firstPage.getHeaders().getFirst(PageCursor.NEXT_CURSOR_HEADER);
+        ResponseEntity<List<BookingDto>> secondPage = bookingController.findAllByBooker("ALL", 2, 0, 2, after);
+
+        assertEquals(2, firstPage.getBody().size());
+        assertEquals(1, secondPage.getBody().size());
+        assertNull(secondPage.getHeaders().getFirst(PageCursor.NEXT_CURSOR_HEADER));
+        assertTrue(firstPage.getBody().stream().noneMatch(b -> b.getId().equals(secondPage.getBody().get(0).getId())));
+    }
+
+    @Test
+    void findAllByBookerWithInvalidCursor() {
+        assertThrows(
+                InvalidCursorException.class,
+                () -> bookingController.findAllByBooker("ALL", 2, 0, 10, "not a cursor")
+        );
+    }
+
     @Test
     void findAllByBookerWhenUserNotExists() {
         assertThrows(
                 EntityNotFoundException.class,
-                () -> bookingController.findAllByBooker("ALL", 99, 0, 10)
+                () -> bookingController.findAllByBooker("ALL", 99, 0, 10, null)
         );
     }
 
     @Test
     void findAllByOwner() {
-        List<BookingDto> foundBooking = bookingController.findAllByOwner("ALL", 1, 0, 10).getBody();
+        List<BookingDto> foundBooking = bookingController.findAllByOwner("ALL", 1, 0, 10, null).getBody();
         assertEquals(1, foundBooking.size());
     }
 
@@ -112,7 +168,7 @@ class BookingControllerTest {
     void findAllByOwnerWhenUserNotExists() {
         assertThrows(
                 EntityNotFoundException.class,
-                () -> bookingController.findAllByOwner("ALL", 99, 0, 10)
+                () -> bookingController.findAllByOwner("ALL", 99, 0, 10, null)
         );
     }
 
@@ -124,6 +180,17 @@ class BookingControllerTest {
 
     }
 
+    @Test
+    void findByIdSerializesOnlyShortItemAndBooker() {
+        BookingDto foundBooking = bookingController.findById(1, 2).getBody();
+        JsonNode json = objectMapper.valueToTree(foundBooking);
+
+        assertEquals("item name", json.get("item").get("name").asText());
+        assertEquals("user name 2", json.get("booker").get("name").asText());
+        assertFalse(json.get("item").has("owner"));
+        assertFalse(json.get("booker").has("email"));
+    }
+
     @Test
     void findByIdWhenUserNotExists() {
         assertThrows(
@@ -154,6 +221,38 @@ class BookingControllerTest {
         );
     }
 
+    @Test
+    void updateAll() {
+        bookingController.create(makeBookingShortDto(1), 2);
+
+        List<BookingStatusUpdateDto> results = bookingController.updateAll(true, List.of(1, 2, 99), 1).getBody();
+
+        assertEquals(3, results.size());
+        assertEquals(BookingStatus.APPROVED, results.get(0).getStatus());
+        assertNull(results.get(0).getError());
+        assertEquals(BookingStatus.WAITING, results.get(1).getStatus());
+        assertNotNull(results.get(1).getError());
+        assertNotNull(results.get(2).getError());
+        assertEquals(BookingStatus.APPROVED, bookingController.findById(1, 1).getBody().getStatus());
+        assertEquals(BookingStatus.WAITING, bookingController.findById(2, 1).getBody().getStatus());
+    }
+
+    @Test
+    void updateAllWhenUserNotOwner() {
+        List<BookingStatusUpdateDto> results = bookingController.updateAll(false, List.of(1), 2).getBody();
+
+        assertNotNull(results.get(0).getError());
+        assertEquals(BookingStatus.WAITING, bookingController.findById(1, 1).getBody().getStatus());
+    }
+
+    @Test
+    void updateAllWhenUserNotExists() {
+        assertThrows(
+                EntityNotFoundException.class,
+                () -> bookingController.updateAll(true, List.of(1), 99)
+        );
+    }
+
     @Test
     void delete() {
         bookingController.delete(1);
@@ -7,6 +7,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -14,8 +16,9 @@ import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
-import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.config.EtagConfig;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.user.dto.UserShortDto;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -24,9 +27,11 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
 
+@Import(EtagConfig.class)
 @WebMvcTest(controllers = BookingController.class)
 class BookingControllerWithMockMvcTest {
 
@@ -45,22 +50,13 @@ class BookingControllerWithMockMvcTest {
 
     @BeforeEach
     void setUp() {
-        User owner = User.builder()
-                .id(1)
-                .name("owner name")
-                .email("owner@mail.com")
-                .build();
-        User booker = User.builder()
+        UserShortDto booker = UserShortDto.builder()
                 .id(1)
                 .name("booker name")
-                .email("booker@mail.com")
                 .build();
-        Item item = Item.builder()
+        ItemShortDto item = ItemShortDto.builder()
                 .id(1)
                 .name("item name")
-                .description("item description")
-                .available(true)
-                .owner(owner)
                 .build();
         bookingDto = BookingDto.builder()
                 .id(1)
@@ -136,6 +132,28 @@ class BookingControllerWithMockMvcTest {
                 .andExpect(content().json(mapper.writeValueAsString(bookingDto)));
     }
 
+    @Test
+    void findByIdWhenNotModified() throws Exception {
+        Mockito
+                .when(bookingService.findById(any(Integer.class), any(Integer.class)))
+                .thenReturn(bookingDto);
+        String etag = mockMvc.perform(get("/bookings/1")
+                        .header(X_SHARER_USER_ID, 2)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/bookings/1")
+                        .header(X_SHARER_USER_ID, 2)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     void update() throws Exception {
         Mockito
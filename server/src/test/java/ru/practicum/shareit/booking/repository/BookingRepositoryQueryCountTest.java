@@ -0,0 +1,135 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingSearchState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BookingRepositoryQueryCountTest {
+
+    private static final int ITEMS_COUNT = 5;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private User booker;
+
+    private Item item;
+
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        booker = entityManager.persist(User.builder()
+                .name("booker name")
+                .email("booker@mail.com")
+                .build());
+        for (int i = 0; i < ITEMS_COUNT; i++) {
+            User owner = entityManager.persist(User.builder()
+                    .name("owner name " + i)
+                    .email("owner" + i + "@mail.com")
+                    .build());
+            ItemRequest itemRequest = entityManager.persist(ItemRequest.builder()
+                    .description("request description " + i)
+                    .created(LocalDateTime.now())
+                    .requester(booker)
+                    .build());
+            item = entityManager.persist(Item.builder()
+                    .name("item name " + i)
+                    .description("item description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .request(itemRequest)
+                    .build());
+            booking = entityManager.persist(Booking.builder()
+                    .start(LocalDateTime.now().minusDays(i + 2))
+                    .end(LocalDateTime.now().minusDays(i + 1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllByBookerIdAndStateRunsOneStatement() {
+        List<BookingDto> bookings = bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.ALL, LocalDateTime.now(), PageRequest.of(0, ITEMS_COUNT));
+
+        assertEquals(ITEMS_COUNT, bookings.size());
+        bookings.forEach(b -> {
+            assertNotNull(b.getItem().getName());
+            assertNotNull(b.getBooker().getName());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllByItemOwnerIdAndStateRunsOneStatement() {
+        List<BookingDto> bookings = bookingRepository.findAllByItemOwnerIdAndState(
+                item.getOwner().getId(), BookingSearchState.PAST, LocalDateTime.now(), PageRequest.of(0, ITEMS_COUNT));
+
+        assertEquals(1, bookings.size());
+        assertEquals(item.getName(), bookings.get(0).getItem().getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdRunsOneStatement() {
+        Booking foundBooking = bookingRepository.findById(booking.getId()).orElseThrow();
+
+        assertEquals(item.getName(), foundBooking.getItem().getName());
+        assertEquals(booker.getName(), foundBooking.getBooker().getName());
+        assertEquals(item.getOwner().getId(), foundBooking.getItem().getOwner().getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBeforeRunsOneStatement() {
+        List<Booking> bookings = bookingRepository.findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(
+                booker.getId(), item.getId(), BookingStatus.APPROVED, LocalDateTime.now());
+
+        assertEquals(1, bookings.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllByIdInAndItemOwnerIdRunsOneStatement() {
+        List<Booking> bookings = bookingRepository.findAllByIdInAndItemOwnerId(
+                List.of(booking.getId(), booking.getId() - 1), item.getOwner().getId());
+
+        assertEquals(1, bookings.size());
+        assertEquals(booking.getId(), bookings.get(0).getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -6,17 +6,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingSearchState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -75,30 +83,147 @@ class BookingRepositoryTest {
     }
 
     @Test
-    void findBookingByBookerIdOrderByStartDesc() {
-        List<Booking> foundBookings = bookingRepository.findBookingByBookerIdOrderByStartDesc(
-                booker.getId(), PageRequest.of(0, 10));
-        assertEquals(1, foundBookings.size());
+    void findAllByBookerIdAndState() {
+        saveBooking(LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), BookingStatus.REJECTED);
+        saveBooking(LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1), BookingStatus.APPROVED);
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        List<BookingDto> all = bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.ALL, now, pageRequest);
+        assertEquals(3, all.size());
+        assertEquals(item.getId(), all.get(0).getItem().getId());
+        assertEquals(item.getName(), all.get(0).getItem().getName());
+        assertEquals(booker.getName(), all.get(0).getBooker().getName());
+        assertTrue(all.get(0).getStart().isAfter(all.get(1).getStart()));
+        assertTrue(all.get(1).getStart().isAfter(all.get(2).getStart()));
+
+        assertEquals(1, bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.CURRENT, now, pageRequest).size());
+        assertEquals(1, bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.PAST, now, pageRequest).size());
+        assertEquals(2, bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.FUTURE, now, pageRequest).size());
+        assertEquals(1, bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.WAITING, now, pageRequest).size());
+        assertEquals(1, bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.REJECTED, now, pageRequest).size());
+        assertEquals(0, bookingRepository.findAllByBookerIdAndState(
+                owner.getId(), BookingSearchState.ALL, now, pageRequest).size());
     }
 
     @Test
-    void findBookingByItemOwnerIdOrderByStartDesc() {
-        List<Booking> foundBookings = bookingRepository.findBookingByItemOwnerIdOrderByStartDesc(
-                owner.getId(), PageRequest.of(0, 10));
-        assertEquals(1, foundBookings.size());
+    void findAllByBookerIdAndStateFiltersBeforePaging() {
+        for (int i = 1; i <= 5; i++) {
+            saveBooking(LocalDateTime.now().minusDays(i + 1), LocalDateTime.now().minusDays(i), BookingStatus.APPROVED);
+        }
+
+        List<BookingDto> foundBookings = bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.PAST, LocalDateTime.now(), PageRequest.of(1, 2));
+
+        assertEquals(2, foundBookings.size());
+        assertTrue(foundBookings.stream().allMatch(b -> b.getEnd().isBefore(LocalDateTime.now())));
     }
 
     @Test
-    void findAllByItemIdAndStatusOrderByStartAsc() {
-        List<Booking> foundBookings = bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(
-                item.getId(), BookingStatus.WAITING);
-        assertEquals(1, foundBookings.size());
+    void findAllByItemOwnerIdAndState() {
+        saveBooking(LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), BookingStatus.REJECTED);
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        assertEquals(2, bookingRepository.findAllByItemOwnerIdAndState(
+                owner.getId(), BookingSearchState.ALL, now, pageRequest).size());
+        assertEquals(1, bookingRepository.findAllByItemOwnerIdAndState(
+                owner.getId(), BookingSearchState.REJECTED, now, pageRequest).size());
+        assertEquals(0, bookingRepository.findAllByItemOwnerIdAndState(
+                booker.getId(), BookingSearchState.ALL, now, pageRequest).size());
     }
 
     @Test
-    void findAllByItemIdAndStatusOrderByStartDesc() {
-        List<Booking> foundBookings = bookingRepository.findAllByItemIdAndStatusOrderByStartDesc(
-                item.getId(), BookingStatus.WAITING);
-        assertEquals(1, foundBookings.size());
+    void findAllByBookerIdAndStateAfter() {
+        LocalDateTime sameStart = LocalDateTime.now().minusDays(3);
+        for (int i = 0; i < 3; i++) {
+            saveBooking(sameStart, sameStart.plusDays(1), BookingStatus.APPROVED);
+            saveBooking(LocalDateTime.now().minusDays(i + 5), LocalDateTime.now().minusDays(i + 4), BookingStatus.APPROVED);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> expectedIds = bookingRepository.findAllByBookerIdAndState(
+                        booker.getId(), BookingSearchState.ALL, now, PageRequest.of(0, 10))
+                .stream()
+                .map(BookingDto::getId)
+                .collect(Collectors.toList());
+
+        List<Integer> foundIds = new ArrayList<>();
+        List<BookingDto> page = bookingRepository.findAllByBookerIdAndState(
+                booker.getId(), BookingSearchState.ALL, now, PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(b -> foundIds.add(b.getId()));
+            BookingDto last = page.get(page.size() - 1);
+            page = bookingRepository.findAllByBookerIdAndStateAfter(
+                    booker.getId(), BookingSearchState.ALL, now, PageCursor.of(last.getStart(), last.getId()), 2);
+        }
+
+        assertEquals(7, expectedIds.size());
+        assertEquals(expectedIds, foundIds);
+    }
+
+    @Test
+    void findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        saveBooking(now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED);
+        saveBooking(now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+        saveBooking(now.plusDays(5), now.plusDays(6), BookingStatus.WAITING);
+
+        List<Booking> overlapping = bookingRepository.findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+                item.getId(), BookingStatus.APPROVED, now.plusDays(3).plusHours(1), PageRequest.of(0, 1));
+        List<Booking> preceding = bookingRepository.findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+                item.getId(), BookingStatus.APPROVED, now.plusDays(3), PageRequest.of(0, 1));
+
+        assertEquals(1, overlapping.size());
+        assertEquals(now.plusDays(3), overlapping.get(0).getStart());
+        assertEquals(1, preceding.size());
+        assertEquals(now.plusDays(1), preceding.get(0).getStart());
+    }
+
+    @Test
+    void findLastAndNextBookingsByItemIds() {
+        for (int i = 1; i <= 20; i++) {
+            saveBooking(LocalDateTime.now().minusDays(i + 1), LocalDateTime.now().minusDays(i), BookingStatus.APPROVED);
+            saveBooking(LocalDateTime.now().plusDays(i), LocalDateTime.now().plusDays(i + 1), BookingStatus.APPROVED);
+        }
+        saveBooking(LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(1), BookingStatus.REJECTED);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<BookingShortDto> lastBookings = bookingRepository.findLastBookingsByItemIds(
+                List.of(item.getId(), 99), BookingStatus.APPROVED, now);
+        List<BookingShortDto> nextBookings = bookingRepository.findNextBookingsByItemIds(
+                List.of(item.getId(), 99), BookingStatus.APPROVED, now);
+
+        assertEquals(1, lastBookings.size());
+        assertEquals(item.getId(), lastBookings.get(0).getItemId());
+        assertEquals(booker.getId(), lastBookings.get(0).getBookerId());
+        assertTrue(lastBookings.get(0).getStart().isAfter(now.minusDays(3)));
+        assertEquals(1, nextBookings.size());
+        assertTrue(nextBookings.get(0).getStart().isBefore(now.plusDays(2)));
+    }
+
+    @Test
+    void findNextBookingsByItemIdsWhenOnlyOneApprovedBooking() {
+        saveBooking(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.APPROVED);
+
+        assertEquals(0, bookingRepository.findNextBookingsByItemIds(
+                List.of(item.getId()), BookingStatus.APPROVED, LocalDateTime.now()).size());
+        assertEquals(0, bookingRepository.findLastBookingsByItemIds(
+                List.of(item.getId()), BookingStatus.APPROVED, LocalDateTime.now()).size());
+    }
+
+    private void saveBooking(LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        bookingRepository.save(Booking.builder()
+                .start(start)
+                .end(end)
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .build());
     }
-}
\ No newline at end of file
+}
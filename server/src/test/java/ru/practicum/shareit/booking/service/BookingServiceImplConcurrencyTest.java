@@ -0,0 +1,115 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.model.ItemUnavailableException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BookingServiceImplConcurrencyTest {
+
+    private static final int THREADS_COUNT = 16;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private ExecutorService executor;
+
+    private User owner;
+
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS_COUNT);
+        owner = userRepository.save(User.builder()
+                .name("owner name")
+                .email("owner@mail.com")
+                .build());
+        User booker = userRepository.save(User.builder()
+                .name("booker name")
+                .email("booker@mail.com")
+                .build());
+        Item item = itemRepository.save(Item.builder()
+                .name("item name")
+                .description("item description")
+                .available(true)
+                .owner(owner)
+                .build());
+        booking = bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void updateWhenApprovedConcurrently() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS_COUNT; i++) {
+            results.add(executor.submit((Callable<?>) () -> {
+                start.await();
+                return bookingService.update(true, booking.getId(), owner.getId());
+            }));
+        }
+        start.countDown();
+
+        int approved = 0;
+        for (Future<?> result : results) {
+            try {
+                result.get();
+                approved++;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof OptimisticLockingFailureException
+                        || e.getCause() instanceof ItemUnavailableException, e.getCause().toString());
+            }
+        }
+
+        Booking updatedBooking = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertEquals(1, approved);
+        assertEquals(BookingStatus.APPROVED, updatedBooking.getStatus());
+        assertEquals(1, updatedBooking.getVersion());
+    }
+}
@@ -10,25 +10,35 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingSearchState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.model.AccessToEntityDeniedException;
 import ru.practicum.shareit.exception.model.EntityNotFoundException;
 import ru.practicum.shareit.exception.model.ItemUnavailableException;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
+import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.dto.UserShortDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceImplTest {
@@ -45,9 +55,15 @@ class BookingServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserExistenceChecker userExistenceChecker;
+
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ItemDetailsCache itemDetailsCache;
+
     private User owner;
 
     private User booker;
@@ -86,6 +102,77 @@ class BookingServiceImplTest {
         assertEquals(2, createdBooking.getBooker().getId());
     }
 
+    @Test
+    void createAll() {
+        Mockito
+                .when(userRepository.findById(booker.getId()))
+                .thenReturn(Optional.of(booker));
+        Mockito
+                .when(itemRepository.findAllById(List.of(item.getId())))
+                .thenReturn(List.of(item));
+        Mockito
+                .when(bookingMapper.toBooking(any(BookingShortDto.class)))
+                .thenReturn(makeBooking(item, booker));
+        Mockito
+                .when(bookingRepository.findAllByItemIdInAndStatusAndStartBeforeAndEndAfter(
+                        eq(List.of(item.getId())), eq(BookingStatus.APPROVED), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        Mockito
+                .when(bookingRepository.saveAll(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito
+                .when(bookingMapper.toBookingDto(any(Booking.class)))
+                .thenReturn(makeBookingDto(item, booker));
+
+        List<BookingDto> createdBookings = bookingService.createAll(List.of(makeBookingShortDto(item.getId())), booker.getId());
+
+        assertEquals(1, createdBookings.size());
+        assertEquals(1, createdBookings.get(0).getItem().getId());
+        Mockito.verify(itemDetailsCache).evict(item.getId());
+    }
+
+    @Test
+    void createAllWhenItemAlreadyBooked() {
+        Mockito
+                .when(userRepository.findById(booker.getId()))
+                .thenReturn(Optional.of(booker));
+        Mockito
+                .when(itemRepository.findAllById(List.of(item.getId())))
+                .thenReturn(List.of(item));
+        Booking booking = makeBooking(item, booker);
+        Mockito
+                .when(bookingMapper.toBooking(any(BookingShortDto.class)))
+                .thenReturn(booking);
+        Booking approvedBooking = makeBooking(item, booker);
+        approvedBooking.setId(2);
+        approvedBooking.setStatus(BookingStatus.APPROVED);
+        Mockito
+                .when(bookingRepository.findAllByItemIdInAndStatusAndStartBeforeAndEndAfter(
+                        List.of(item.getId()), BookingStatus.APPROVED, booking.getEnd(), booking.getStart()))
+                .thenReturn(List.of(approvedBooking));
+
+        assertThrows(
+                ItemUnavailableException.class,
+                () -> bookingService.createAll(List.of(makeBookingShortDto(item.getId())), booker.getId())
+        );
+        Mockito.verify(bookingRepository, Mockito.never()).saveAll(any());
+    }
+
+    @Test
+    void createAllWhenItemNotExists() {
+        Mockito
+                .when(userRepository.findById(booker.getId()))
+                .thenReturn(Optional.of(booker));
+        Mockito
+                .when(itemRepository.findAllById(List.of(99)))
+                .thenReturn(List.of());
+
+        assertThrows(
+                EntityNotFoundException.class,
+                () -> bookingService.createAll(List.of(makeBookingShortDto(99)), booker.getId())
+        );
+    }
+
     @Test
     void createWhenUserNotExists() {
         Mockito
@@ -142,33 +229,48 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void findAllByBookerState() {
+    void createWhenItemAlreadyBooked() {
         Mockito
-                .when(userRepository.findById(booker.getId()))
+                .when(userRepository.findById(any(Integer.class)))
                 .thenReturn(Optional.ofNullable(booker));
         Mockito
-                .when(bookingRepository.findBookingByBookerIdOrderByStartDesc(any(Integer.class), any(PageRequest.class)))
-                .thenReturn(List.of(makeBooking(item, booker)));
+                .when(itemRepository.findById(any(Integer.class)))
+                .thenReturn(Optional.ofNullable(item));
+        BookingShortDto bookingShortDto = makeBookingShortDto(item.getId());
+        Booking approvedBooking = makeBooking(item, booker);
+        approvedBooking.setStatus(BookingStatus.APPROVED);
+        approvedBooking.setEnd(bookingShortDto.getStart().plusMinutes(1));
         Mockito
-                .when(bookingMapper.toBookingDto(any(Booking.class)))
-                .thenReturn(makeBookingDto(item, booker));
+                .when(bookingRepository.findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+                        item.getId(), BookingStatus.APPROVED, bookingShortDto.getEnd(), PageRequest.of(0, 1)))
+                .thenReturn(List.of(approvedBooking));
+
+        assertThrows(
+                ItemUnavailableException.class,
+                () -> bookingService.create(bookingShortDto, booker.getId())
+        );
+        Mockito.verify(bookingRepository, Mockito.never()).save(any(Booking.class));
+    }
+
+    @Test
+    void findAllByBookerState() {
+        Mockito
+                .when(bookingRepository.findAllByBookerIdAndState(
+                        any(Integer.class), any(BookingSearchState.class), any(LocalDateTime.class), any(PageRequest.class)))
+                .thenReturn(List.of(makeBookingDto(item, booker)));
 
         List<BookingDto> foundBookingALL = bookingService.findAllByBooker("ALL", booker.getId(), 0, 10);
-        List<BookingDto> foundBookingCURRENT = bookingService.findAllByBooker("CURRENT", booker.getId(), 0, 10);
-        List<BookingDto> foundBookingWAITING = bookingService.findAllByBooker("WAITING", booker.getId(), 0, 10);
-        List<BookingDto> foundBookingPAST = bookingService.findAllByBooker("PAST", booker.getId(), 0, 10);
-        List<BookingDto> foundBookingFUTURE = bookingService.findAllByBooker("FUTURE", booker.getId(), 0, 10);
-        List<BookingDto> foundBookingREJECTED = bookingService.findAllByBooker("REJECTED", booker.getId(), 0, 10);
+        List<BookingDto> foundBookingPAST = bookingService.findAllByBooker("PAST", booker.getId(), 5, 5);
 
         assertEquals(1, foundBookingALL.size());
         assertEquals(1, foundBookingALL.get(0).getItem().getId());
         assertEquals(2, foundBookingALL.get(0).getBooker().getId());
-
-        assertEquals(0, foundBookingCURRENT.size());
-        assertEquals(1, foundBookingWAITING.size());
         assertEquals(1, foundBookingPAST.size());
-        assertEquals(0, foundBookingFUTURE.size());
-        assertEquals(0, foundBookingREJECTED.size());
+
+        Mockito.verify(bookingRepository).findAllByBookerIdAndState(
+                eq(booker.getId()), eq(BookingSearchState.ALL), any(LocalDateTime.class), eq(PageRequest.of(0, 10)));
+        Mockito.verify(bookingRepository).findAllByBookerIdAndState(
+                eq(booker.getId()), eq(BookingSearchState.PAST), any(LocalDateTime.class), eq(PageRequest.of(1, 5)));
 
         assertThrows(
                 IllegalArgumentException.class,
@@ -179,8 +281,8 @@ class BookingServiceImplTest {
     @Test
     void findAllByBookerStateWhenUserNotExists() {
         Mockito
-                .when(userRepository.findById(any(Integer.class)))
-                .thenThrow(EntityNotFoundException.class);
+                .doThrow(EntityNotFoundException.class)
+                .when(userExistenceChecker).checkExists(anyInt());
 
         assertThrows(
                 EntityNotFoundException.class,
@@ -191,27 +293,24 @@ class BookingServiceImplTest {
     @Test
     void findAllByOwner() {
         Mockito
-                .when(userRepository.findById(owner.getId()))
-                .thenReturn(Optional.ofNullable(owner));
-        Mockito
-                .when(bookingRepository.findBookingByItemOwnerIdOrderByStartDesc(any(Integer.class), any(PageRequest.class)))
-                .thenReturn(List.of(makeBooking(item, booker)));
-        Mockito
-                .when(bookingMapper.toBookingDto(any(Booking.class)))
-                .thenReturn(makeBookingDto(item, booker));
+                .when(bookingRepository.findAllByItemOwnerIdAndState(
+                        any(Integer.class), any(BookingSearchState.class), any(LocalDateTime.class), any(PageRequest.class)))
+                .thenReturn(List.of(makeBookingDto(item, booker)));
 
         List<BookingDto> foundBooking = bookingService.findAllByOwner("ALL", owner.getId(), 0, 10);
 
         assertEquals(1, foundBooking.size());
         assertEquals(1, foundBooking.get(0).getItem().getId());
         assertEquals(2, foundBooking.get(0).getBooker().getId());
+        Mockito.verify(bookingRepository).findAllByItemOwnerIdAndState(
+                eq(owner.getId()), eq(BookingSearchState.ALL), any(LocalDateTime.class), eq(PageRequest.of(0, 10)));
     }
 
     @Test
     void findAllByOwnerStateWhenUserNotExists() {
         Mockito
-                .when(userRepository.findById(any(Integer.class)))
-                .thenThrow(EntityNotFoundException.class);
+                .doThrow(EntityNotFoundException.class)
+                .when(userExistenceChecker).checkExists(anyInt());
 
         assertThrows(
                 EntityNotFoundException.class,
@@ -221,9 +320,6 @@ class BookingServiceImplTest {
 
     @Test
     void findById() {
-        Mockito
-                .when(userRepository.findById(booker.getId()))
-                .thenReturn(Optional.ofNullable(booker));
         Mockito
                 .when(bookingRepository.findById(any(Integer.class)))
                 .thenReturn(Optional.ofNullable(makeBooking(item, booker)));
@@ -241,8 +337,8 @@ class BookingServiceImplTest {
     @Test
     void findByIdStateWhenUserNotExists() {
         Mockito
-                .when(userRepository.findById(any(Integer.class)))
-                .thenThrow(EntityNotFoundException.class);
+                .doThrow(EntityNotFoundException.class)
+                .when(userExistenceChecker).checkExists(anyInt());
 
         assertThrows(
                 EntityNotFoundException.class,
@@ -252,9 +348,6 @@ class BookingServiceImplTest {
 
     @Test
     void findByIdStateWhenBookerIdEqualsUserId() {
-        Mockito
-                .when(userRepository.findById(booker.getId()))
-                .thenReturn(Optional.ofNullable(booker));
         Booking booking = makeBooking(item, booker);
         booking.getBooker().setId(1);
         Mockito
@@ -269,9 +362,6 @@ class BookingServiceImplTest {
 
     @Test
     void update() {
-        Mockito
-                .when(userRepository.findById(owner.getId()))
-                .thenReturn(Optional.ofNullable(owner));
         Mockito
                 .when(bookingRepository.findById(any(Integer.class)))
                 .thenReturn(Optional.ofNullable(makeBooking(item, booker)));
@@ -288,9 +378,6 @@ class BookingServiceImplTest {
 
     @Test
     void updateWhenOwnerIdEqualsUserId() {
-        Mockito
-                .when(userRepository.findById(any(Integer.class)))
-                .thenReturn(Optional.ofNullable(owner));
         Booking booking = makeBooking(item, booker);
         booking.getBooker().setId(1);
         Mockito
@@ -305,9 +392,6 @@ class BookingServiceImplTest {
 
     @Test
     void updateWhenStatusAlreadyApproved() {
-        Mockito
-                .when(userRepository.findById(any(Integer.class)))
-                .thenReturn(Optional.ofNullable(owner));
         Booking booking = makeBooking(item, booker);
         booking.setStatus(BookingStatus.APPROVED);
         Mockito
@@ -320,6 +404,80 @@ class BookingServiceImplTest {
         );
     }
 
+    @Test
+    void updateWhenItemAlreadyBooked() {
+        Booking booking = makeBooking(item, booker);
+        Mockito
+                .when(bookingRepository.findById(any(Integer.class)))
+                .thenReturn(Optional.of(booking));
+        Booking approvedBooking = makeBooking(item, booker);
+        approvedBooking.setId(2);
+        approvedBooking.setStatus(BookingStatus.APPROVED);
+        Mockito
+                .when(bookingRepository.findAllByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+                        item.getId(), BookingStatus.APPROVED, booking.getEnd(), PageRequest.of(0, 1)))
+                .thenReturn(List.of(approvedBooking));
+
+        assertThrows(
+                ItemUnavailableException.class,
+                () -> bookingService.update(true, 1, 1)
+        );
+        assertEquals(BookingStatus.WAITING, booking.getStatus());
+    }
+
+    @Test
+    void updateAll() {
+        Booking booking = makeBooking(item, booker);
+        Mockito
+                .when(bookingRepository.findAllByIdInAndItemOwnerId(List.of(1, 2), owner.getId()))
+                .thenReturn(List.of(booking));
+
+        List<BookingStatusUpdateDto> results = bookingService.updateAll(false, List.of(1, 2), owner.getId());
+
+        assertEquals(2, results.size());
+        assertEquals(BookingStatus.REJECTED, results.get(0).getStatus());
+        assertNull(results.get(0).getError());
+        assertNotNull(results.get(1).getError());
+        assertEquals(BookingStatus.REJECTED, booking.getStatus());
+        Mockito.verify(itemDetailsCache).evict(item.getId());
+    }
+
+    @Test
+    void updateAllWhenItemAlreadyBooked() {
+        Booking booking = makeBooking(item, booker);
+        Booking overlappingBooking = makeBooking(item, booker);
+        overlappingBooking.setId(2);
+        overlappingBooking.setStart(booking.getStart());
+        overlappingBooking.setEnd(booking.getEnd());
+        Mockito
+                .when(bookingRepository.findAllByIdInAndItemOwnerId(List.of(1, 2), owner.getId()))
+                .thenReturn(List.of(booking, overlappingBooking));
+        Mockito
+                .when(bookingRepository.findAllByItemIdInAndStatusAndStartBeforeAndEndAfter(
+                        List.of(item.getId()), BookingStatus.APPROVED, booking.getEnd(), booking.getStart()))
+                .thenReturn(List.of());
+
+        List<BookingStatusUpdateDto> results = bookingService.updateAll(true, List.of(1, 2), owner.getId());
+
+        assertEquals(BookingStatus.APPROVED, results.get(0).getStatus());
+        assertNull(results.get(0).getError());
+        assertEquals(BookingStatus.WAITING, results.get(1).getStatus());
+        assertNotNull(results.get(1).getError());
+        assertEquals(BookingStatus.WAITING, overlappingBooking.getStatus());
+    }
+
+    @Test
+    void updateAllWhenUserNotExists() {
+        Mockito
+                .doThrow(EntityNotFoundException.class)
+                .when(userExistenceChecker).checkExists(anyInt());
+
+        assertThrows(
+                EntityNotFoundException.class,
+                () -> bookingService.updateAll(true, List.of(1), 99)
+        );
+    }
+
     private User makeUser(Integer id, String name) {
         return User.builder()
                 .id(id)
@@ -354,8 +512,8 @@ class BookingServiceImplTest {
                 .id(1)
                 .start(LocalDateTime.now().minusMinutes(5))
                 .end(LocalDateTime.now().minusMinutes(1))
-                .item(item)
-                .booker(booker)
+                .item(new ItemShortDto(item.getId(), item.getName()))
+                .booker(new UserShortDto(booker.getId(), booker.getName()))
                 .build();
     }
 
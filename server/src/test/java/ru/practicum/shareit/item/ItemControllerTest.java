@@ -82,6 +82,32 @@ class ItemControllerTest {
         assertItemDtoFields(foundItem);
     }
 
+    @Test
+    void createItems() {
+        List<ItemDto> itemDtos = List.of(
+                ItemDto.builder().name("item name 2").description("item description 2").available(true).build(),
+                ItemDto.builder().name("item name 3").description("item description 3").available(false).build()
+        );
+
+        List<ItemDto> createdItems = itemController.createItems(itemDtos, 1).getBody();
+
+        assertEquals(2, createdItems.size());
+        assertEquals(List.of(2, 3), List.of(createdItems.get(0).getId(), createdItems.get(1).getId()));
+        assertEquals("item name 3", itemController.findById(3, 1).getBody().getName());
+    }
+
+    @Test
+    void createItemsWhenRequestNotExists() {
+        List<ItemDto> itemDtos = List.of(
+                ItemDto.builder().name("item name 2").description("item description 2").available(true).requestId(99).build()
+        );
+
+        assertThrows(
+                EntityNotFoundException.class,
+                () -> itemController.createItems(itemDtos, 1)
+        );
+    }
+
     @Test
     void createItemWhenUserNotExists() {
         ItemDto itemDto = ItemDto.builder()
@@ -116,7 +142,7 @@ class ItemControllerTest {
 
     @Test
     void findAll() {
-        List<ItemDto> foundItems = itemController.findAll(1, 0, 20).getBody();
+        List<ItemDto> foundItems = itemController.findAll(1, 0, 20, null).getBody();
         assertEquals(foundItems.size(), 1);
         assertItemDtoFields(foundItems.get(0));
     }
@@ -145,7 +171,7 @@ class ItemControllerTest {
                 .build();
         bookingController.create(bookingNext, 2);
         bookingController.update(true, 2, 1);
-        List<ItemDto> foundItems = itemController.findAll(1, 0, 20).getBody();
+        List<ItemDto> foundItems = itemController.findAll(1, 0, 20, null).getBody();
         assertEquals(1, foundItems.size());
         assertNotNull(foundItems.get(0).getLastBooking());
         assertNotNull(foundItems.get(0).getNextBooking());
@@ -155,7 +181,7 @@ class ItemControllerTest {
     void findAllWhenUserNotExists() {
         assertThrows(
                 EntityNotFoundException.class,
-                () -> itemController.findAll(99, 0, 10)
+                () -> itemController.findAll(99, 0, 10, null)
         );
     }
 
@@ -7,8 +7,11 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.config.EtagConfig;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentShortDto;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -22,9 +25,11 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.item.ItemController.X_SHARER_USER_ID;
 
+@Import(EtagConfig.class)
 @WebMvcTest(controllers = ItemController.class)
 class ItemControllerWithMockMvcTest {
 
@@ -96,6 +101,28 @@ class ItemControllerWithMockMvcTest {
                 .andExpect(content().json(mapper.writeValueAsString(itemDto)));
     }
 
+    @Test
+    void findByIdWhenNotModified() throws Exception {
+        Mockito
+                .when(itemService.findById(any(Integer.class), any(Integer.class)))
+                .thenReturn(itemDto);
+        String etag = mockMvc.perform(get("/items/1")
+                        .header(X_SHARER_USER_ID, 1)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/items/1")
+                        .header(X_SHARER_USER_ID, 1)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     void update() throws Exception {
         Mockito
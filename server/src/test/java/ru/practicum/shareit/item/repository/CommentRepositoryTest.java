@@ -28,7 +28,7 @@ class CommentRepositoryTest {
     private CommentRepository commentRepository;
 
     @Test
-    void findAllByItemId() {
+    void findAllByItemIdIn() {
         User user = User.builder()
                 .name("user name")
                 .email("user@mail.com")
@@ -49,7 +49,7 @@ class CommentRepositoryTest {
                 .build();
         commentRepository.save(comment);
 
-        List<Comment> foundComments = commentRepository.findAllByItemId(1);
+        List<Comment> foundComments = commentRepository.findAllByItemIdIn(List.of(item.getId(), 99));
         assertEquals(1, foundComments.size());
     }
 }
\ No newline at end of file
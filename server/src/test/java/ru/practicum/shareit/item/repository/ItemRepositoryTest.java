@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -70,6 +71,60 @@ class ItemRepositoryTest {
         assertEquals(1, foundItems.size());
     }
 
+    @Test
+    void findByRequestIdIn() {
+        ItemRequest itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                .description("description")
+                .requester(user)
+                .created(LocalDateTime.now())
+                .build());
+        item.setRequest(itemRequest);
+        itemRepository.save(item);
+        itemRepository.save(Item.builder()
+                .name("other item name")
+                .description("other description")
+                .available(true)
+                .owner(user)
+                .request(itemRequest)
+                .build());
+
+        List<Item> foundItems = itemRepository.findByRequestIdIn(List.of(itemRequest.getId(), 99));
+
+        assertEquals(2, foundItems.size());
+        assertTrue(foundItems.stream().allMatch(i -> i.getRequest().getId().equals(itemRequest.getId())));
+    }
+
+    @Test
+    void findIdsByOwnerIdOrRequesterId() {
+        User other = userRepository.save(User.builder()
+                .name("other name")
+                .email("other@mail.com")
+                .build());
+        ItemRequest itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                .description("description")
+                .requester(user)
+                .created(LocalDateTime.now())
+                .build());
+        Item requestedItem = itemRepository.save(Item.builder()
+                .name("requested item name")
+                .description("requested description")
+                .available(true)
+                .owner(other)
+                .request(itemRequest)
+                .build());
+        itemRepository.save(Item.builder()
+                .name("other item name")
+                .description("other description")
+                .available(true)
+                .owner(other)
+                .build());
+
+        List<Integer> foundIds = itemRepository.findIdsByOwnerIdOrRequesterId(user.getId());
+
+        assertEquals(2, foundIds.size());
+        assertTrue(foundIds.containsAll(List.of(item.getId(), requestedItem.getId())));
+    }
+
     @Test
     void searchAvailableItemsByText() {
         List<Item> foundItems = itemRepository.searchAvailableItemsByText("item name", PageRequest.of(0, 10));
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(properties = "shareit.item.search.full-text=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ItemFullTextSearchTest {
+
+    @Autowired
+    private ItemFullTextSearch itemFullTextSearch;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void isDisabledOnH2() {
+        assertFalse(itemFullTextSearch.isEnabled());
+    }
+
+    @Test
+    void searchFallsBackToLikeOnH2() {
+        UserDto owner = userService.create(UserDto.builder()
+                .name("owner name")
+                .email("owner@mail.com")
+                .build());
+        itemService.createItem(ItemDto.builder()
+                .name("Hammerdrill")
+                .description("Heavy duty")
+                .available(true)
+                .build(), owner.getId());
+
+        List<ItemDto> items = itemService.search("drill", 0, 10);
+
+        assertEquals(1, items.size());
+        assertEquals("Hammerdrill", items.get(0).getName());
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+@DataJpaTest
+class ItemSearchIndexConsistencyTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ItemSearchIndex itemSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(User.builder()
+                .name("owner name")
+                .email("owner@mail.com")
+                .build());
+        persistItem(owner, "Hammerdrill", "Heavy duty", true);
+        persistItem(owner, "Drill", "Cordless drill", true);
+        persistItem(owner, "Hammer", "Drill hammer set", true);
+        persistItem(owner, "Saw", "Heavy saw", true);
+        persistItem(owner, "Дрель", "Аккумуляторная дрель", true);
+        persistItem(owner, "Drill press", "Broken", false);
+        entityManager.flush();
+        entityManager.clear();
+        itemSearchIndex = new ItemSearchIndex(itemRepository);
+        ReflectionTestUtils.setField(itemSearchIndex, "enabled", true);
+        itemSearchIndex.rebuild();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"drill", "DRILL", "ill", "dr", "l", "drill hammer", "hammer", "mer dr", "heavy dri",
+            "heavy", "ДРЕЛЬ", "умулятор", "press", "nothing"})
+    void searchMatchesDatabaseSearch(String text) {
+        int[] expected = itemRepository.searchAvailableItemsByText(text.toLowerCase(), PageRequest.of(0, 100))
+                .stream()
+                .mapToInt(Item::getId)
+                .sorted()
+                .toArray();
+
+        assertArrayEquals(expected, itemSearchIndex.search(text));
+    }
+
+    private void persistItem(User owner, String name, String description, boolean available) {
+        entityManager.persist(Item.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(owner)
+                .build());
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private ItemSearchIndex itemSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(itemSearchIndex, "enabled", true);
+    }
+
+    @Test
+    void rebuild() {
+        Mockito
+                .when(itemRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(
+                        makeItem(1, "Дрель", "Простая дрель", true),
+                        makeItem(2, "Отвертка", "Аккумуляторная отвертка", true),
+                        makeItem(3, "Дрель ударная", "Не работает", false))));
+
+        assertFalse(itemSearchIndex.isReady());
+        itemSearchIndex.rebuild();
+
+        assertTrue(itemSearchIndex.isReady());
+        assertArrayEquals(new int[]{1}, itemSearchIndex.search("дРелЬ"));
+        assertArrayEquals(new int[]{2}, itemSearchIndex.search("аккумулятор"));
+        assertArrayEquals(new int[0], itemSearchIndex.search("перфоратор"));
+    }
+
+    @Test
+    void search() {
+        itemSearchIndex.index(makeItem(5, "Hammer drill", "Heavy duty", true));
+        itemSearchIndex.index(makeItem(2, "Drill", "Cordless drill", true));
+        itemSearchIndex.index(makeItem(9, "Saw", "Heavy saw", true));
+
+        assertArrayEquals(new int[]{2, 5}, itemSearchIndex.search("drill"));
+        assertArrayEquals(new int[]{5, 9}, itemSearchIndex.search("heavy"));
+        assertArrayEquals(new int[]{2, 5}, itemSearchIndex.search("ill"));
+        assertArrayEquals(new int[]{5}, itemSearchIndex.search("mer dr"));
+        assertArrayEquals(new int[0], itemSearchIndex.search("drill hammer"));
+        assertArrayEquals(new int[0], itemSearchIndex.search("heavy dri"));
+        assertArrayEquals(new int[0], itemSearchIndex.search("   "));
+    }
+
+    @Test
+    void indexWhenItemUpdated() {
+        itemSearchIndex.index(makeItem(1, "Drill", "Cordless drill", true));
+        itemSearchIndex.index(makeItem(1, "Saw", "Cordless saw", true));
+
+        assertArrayEquals(new int[0], itemSearchIndex.search("drill"));
+        assertArrayEquals(new int[]{1}, itemSearchIndex.search("saw"));
+
+        itemSearchIndex.index(makeItem(1, "Saw", "Cordless saw", false));
+
+        assertArrayEquals(new int[0], itemSearchIndex.search("saw"));
+    }
+
+    @Test
+    void remove() {
+        itemSearchIndex.index(makeItem(1, "Drill", "Cordless drill", true));
+        itemSearchIndex.index(makeItem(2, "Drill", "Hammer drill", true));
+        itemSearchIndex.remove(1);
+
+        assertArrayEquals(new int[]{2}, itemSearchIndex.search("drill"));
+    }
+
+    private Item makeItem(int id, String name, String description, boolean available) {
+        return Item.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(available)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package ru.practicum.shareit.item.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ItemServiceImplQueryCountTest {
+
+    private static final int ITEMS_COUNT = 10;
+
+    private static final int BATCH_ITEMS_COUNT = 200;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(User.builder()
+                .name("owner name")
+                .email("owner@mail.com")
+                .build());
+        User booker = userRepository.save(User.builder()
+                .name("booker name")
+                .email("booker@mail.com")
+                .build());
+        for (int i = 0; i < ITEMS_COUNT; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("item name " + i)
+                    .description("item description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .build());
+            saveBooking(item, booker, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1));
+            saveBooking(item, booker, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+            commentRepository.save(Comment.builder()
+                    .text("comment " + i)
+                    .item(item)
+                    .author(booker)
+                    .created(LocalDateTime.now())
+                    .build());
+        }
+        itemService.findAll(owner.getId(), 0, 1);
+    }
+
+    @Test
+    void findAllRunsFixedNumberOfQueries() {
+        long smallPageQueries = countQueries(2);
+        long fullPageQueries = countQueries(ITEMS_COUNT);
+
+        assertEquals(smallPageQueries, fullPageQueries);
+        assertTrue(fullPageQueries < ITEMS_COUNT);
+    }
+
+    @Test
+    void createItemsBatchesInserts() {
+        List<ItemDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i < BATCH_ITEMS_COUNT; i++) {
+            itemDtos.add(ItemDto.builder()
+                    .name("batch item name " + i)
+                    .description("batch item description " + i)
+                    .available(true)
+                    .build());
+        }
+        statistics.clear();
+
+        List<ItemDto> items = itemService.createItems(itemDtos, owner.getId());
+
+        assertEquals(BATCH_ITEMS_COUNT, items.size());
+        assertEquals(BATCH_ITEMS_COUNT, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < BATCH_ITEMS_COUNT / 10);
+    }
+
+    private long countQueries(int size) {
+        statistics.clear();
+        List<ItemDto> items = itemService.findAll(owner.getId(), 0, size);
+
+        assertEquals(size, items.size());
+        items.forEach(i -> {
+            assertNotNull(i.getLastBooking());
+            assertNotNull(i.getNextBooking());
+            assertEquals(1, i.getComments().size());
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveBooking(Item item, User booker, LocalDateTime start, LocalDateTime end) {
+        bookingRepository.save(Booking.builder()
+                .start(start)
+                .end(end)
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+    }
+}
@@ -6,13 +6,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
-import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.model.EntityNotFoundException;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentShortDto;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -22,19 +24,26 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemFullTextSearch;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 class ItemServiceImplTest {
@@ -45,15 +54,15 @@ class ItemServiceImplTest {
     @Mock
     private CommentMapper commentMapper;
 
-    @Mock
-    private BookingMapper bookingMapper;
-
     @Mock
     private ItemRepository itemRepository;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserExistenceChecker userExistenceChecker;
+
     @Mock
     private BookingRepository bookingRepository;
 
@@ -63,6 +72,15 @@ class ItemServiceImplTest {
     @Mock
     private ItemRequestRepository itemRequestRepository;
 
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private ItemFullTextSearch itemFullTextSearch;
+
+    @Spy
+    private ItemDetailsCache itemDetailsCache = new ItemDetailsCache(100, Duration.ofMinutes(10));
+
     @InjectMocks
     private ItemServiceImpl itemService;
 
@@ -88,8 +106,8 @@ class ItemServiceImplTest {
     @Test
     void createItem() {
         Mockito
-                .when(userRepository.findById(1))
-                .thenReturn(Optional.ofNullable(user));
+                .when(userRepository.getReferenceById(1))
+                .thenReturn(user);
         Mockito
                 .when(itemMapper.toItem(itemDto))
                 .thenReturn(item);
@@ -110,10 +128,48 @@ class ItemServiceImplTest {
     }
 
     @Test
-    void findAll() {
+    void createItems() {
         Mockito
-                .when(userRepository.findById(1))
-                .thenReturn(Optional.ofNullable(user));
+                .when(userRepository.getReferenceById(1))
+                .thenReturn(user);
+        Mockito
+                .when(itemMapper.toItem(itemDto))
+                .thenReturn(item);
+        Mockito
+                .when(itemMapper.toItemDto(item))
+                .thenReturn(itemDto);
+        Mockito
+                .when(itemRequestRepository.findAllById(Set.of(itemDto.getRequestId())))
+                .thenReturn(List.of(itemRequest));
+        Mockito
+                .when(itemRepository.saveAll(List.of(item)))
+                .thenReturn(List.of(item));
+
+        List<ItemDto> createdItems = itemService.createItems(List.of(itemDto), 1);
+
+        assertEquals(1, createdItems.size());
+        assertItemDtoFields(createdItems.get(0));
+        assertEquals(itemRequest, item.getRequest());
+    }
+
+    @Test
+    void createItemsWhenRequestNotExists() {
+        Mockito
+                .when(userRepository.getReferenceById(1))
+                .thenReturn(user);
+        Mockito
+                .when(itemRequestRepository.findAllById(Set.of(itemDto.getRequestId())))
+                .thenReturn(Collections.emptyList());
+
+        assertThrows(
+                EntityNotFoundException.class,
+                () -> itemService.createItems(List.of(itemDto), 1)
+        );
+        Mockito.verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void findAll() {
         Mockito
                 .when(itemRepository.findByOwnerIdOrderByIdAsc(1, PageRequest.of(0, 10)))
                 .thenReturn(List.of(item));
@@ -132,9 +188,6 @@ class ItemServiceImplTest {
 
     @Test
     void findById() {
-        Mockito
-                .when(userRepository.findById(1))
-                .thenReturn(Optional.ofNullable(user));
         Mockito
                 .when(itemRepository.findById(1))
                 .thenReturn(Optional.ofNullable(item));
@@ -151,10 +204,55 @@ class ItemServiceImplTest {
     }
 
     @Test
-    void update() {
+    void findByIdWhenCached() {
         Mockito
-                .when(userRepository.findById(1))
-                .thenReturn(Optional.ofNullable(user));
+                .when(itemRepository.findById(1))
+                .thenReturn(Optional.ofNullable(item));
+        Mockito
+                .when(itemMapper.toItemDto(item))
+                .thenReturn(itemDto);
+        setUpBookingToItemsMocks();
+        setUpCommentsToItemMocks();
+
+        ItemDto foundByOwner = itemService.findById(1, 1);
+        ItemDto foundByOther = itemService.findById(1, 2);
+
+        assertItemDtoFields(foundByOwner);
+        assertItemDtoFields(foundByOther);
+        assertEquals(1, foundByOwner.getLastBooking().getId());
+        assertNull(foundByOther.getLastBooking());
+        Mockito
+                .verify(itemRepository, Mockito.times(1)).findById(1);
+        Mockito
+                .verify(commentRepository, Mockito.times(1)).findAllByItemIdIn(List.of(1));
+    }
+
+    @Test
+    void findByIdAfterUpdate() {
+        Mockito
+                .when(itemRepository.findById(1))
+                .thenReturn(Optional.ofNullable(item));
+        Mockito
+                .when(itemMapper.toItem(itemDto))
+                .thenReturn(item);
+        Mockito
+                .when(itemMapper.toItemDto(item))
+                .thenReturn(itemDto);
+        setUpBookingToItemsMocks();
+        setUpCommentsToItemMocks();
+
+        itemService.findById(1, 1);
+        itemService.update(1, itemDto, 1);
+        itemService.findById(1, 1);
+
+        Mockito
+                .verify(itemDetailsCache).evict(1);
+        Mockito
+                .verify(commentRepository, Mockito.times(2)).findAllByItemIdIn(List.of(1));
+    }
+
+    @Test
+    void update() {
         Mockito
                 .when(itemRepository.findById(1))
                 .thenReturn(Optional.ofNullable(item));
@@ -184,6 +282,46 @@ class ItemServiceImplTest {
         assertItemDtoFields(items.get(0));
     }
 
+    @Test
+    void searchWithFullText() {
+        Mockito
+                .when(itemFullTextSearch.isEnabled())
+                .thenReturn(true);
+        Mockito
+                .when(itemRepository.searchAvailableItemsByFullText("Text", PageRequest.of(0, 20)))
+                .thenReturn(List.of(item));
+        Mockito
+                .when(itemMapper.toItemDto(item))
+                .thenReturn(itemDto);
+
+        List<ItemDto> items = itemService.search("Text", 1, 20);
+
+        assertItemDtoFields(items.get(0));
+    }
+
+    @Test
+    void searchWithIndex() {
+        Mockito
+                .when(itemSearchIndex.isReady())
+                .thenReturn(true);
+        Mockito
+                .when(itemSearchIndex.search("text"))
+                .thenReturn(new int[]{1, 2, 3});
+        Mockito
+                .when(itemRepository.findAllById(List.of(3)))
+                .thenReturn(List.of(item));
+        item.setId(3);
+        itemDto.setId(3);
+        Mockito
+                .when(itemMapper.toItemDto(item))
+                .thenReturn(itemDto);
+
+        List<ItemDto> items = itemService.search("text", 2, 2);
+
+        assertEquals(1, items.size());
+        assertItemDtoFields(items.get(0));
+    }
+
     @Test
     void createComment() {
         Mockito
@@ -215,19 +353,18 @@ class ItemServiceImplTest {
 
     void setUpBookingToItemsMocks() {
         Mockito
-                .when(bookingRepository.findAllByItemIdAndStatusOrderByStartDesc(1, BookingStatus.APPROVED))
-                .thenReturn(List.of(booking));
+                .when(bookingRepository.findLastBookingsByItemIds(
+                        eq(List.of(1)), eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(makeBookingShortDto()));
         Mockito
-                .when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(1, BookingStatus.APPROVED))
+                .when(bookingRepository.findNextBookingsByItemIds(
+                        eq(List.of(1)), eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
                 .thenReturn(Collections.emptyList());
-        Mockito
-                .when(bookingMapper.toBookingShortDto(any(Booking.class)))
-                .thenReturn(makeBookingShortDto());
     }
 
     void setUpCommentsToItemMocks() {
         Mockito
-                .when(commentRepository.findAllByItemId(1))
+                .when(commentRepository.findAllByItemIdIn(List.of(1)))
                 .thenReturn(Collections.emptyList());
     }
 
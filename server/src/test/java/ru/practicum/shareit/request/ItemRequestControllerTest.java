@@ -74,7 +74,7 @@ class ItemRequestControllerTest {
 
     @Test
     void findAllFromOthers() {
-        List<ItemRequestDto> foundItemRequests = itemRequestController.findAllFromOthers(1, 0, 10).getBody();
+        List<ItemRequestDto> foundItemRequests = itemRequestController.findAllFromOthers(1, 0, 10, null).getBody();
         assertEquals(0, foundItemRequests.size());
     }
 
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
@@ -13,9 +14,11 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -67,4 +70,29 @@ class ItemRequestRepositoryTest {
         List<ItemRequest> foundItemRequests = itemRequestRepository.findAllByRequesterIdNot(PageRequest.of(0, 10), 1);
         assertEquals(0, foundItemRequests.size());
     }
+
+    @Test
+    void findAllByRequesterIdNotAfter() {
+        User other = userRepository.save(User.builder()
+                .name("other name")
+                .email("other@mail.com")
+                .build());
+        LocalDateTime created = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.MICROS);
+        for (int i = 0; i < 3; i++) {
+            itemRequestRepository.save(ItemRequest.builder()
+                    .description("request " + i)
+                    .created(created)
+                    .requester(other)
+                    .build());
+        }
+        List<ItemRequest> firstPage = itemRequestRepository.findAllByRequesterIdNot(
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "created", "id")), user.getId());
+        ItemRequest last = firstPage.get(firstPage.size() - 1);
+
+        List<ItemRequest> secondPage = itemRequestRepository.findAllByRequesterIdNotAfter(
+                user.getId(), last.getCreated(), last.getId(), PageRequest.of(0, 2));
+
+        assertEquals(1, secondPage.size());
+        assertTrue(secondPage.get(0).getId() < last.getId());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.request.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ItemRequestServiceImplQueryCountTest {
+
+    private static final int REQUESTS_COUNT = 10;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User requester;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        requester = userRepository.save(User.builder()
+                .name("requester name")
+                .email("requester@mail.com")
+                .build());
+        owner = userRepository.save(User.builder()
+                .name("owner name")
+                .email("owner@mail.com")
+                .build());
+        for (int i = 0; i < REQUESTS_COUNT; i++) {
+            ItemRequest itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                    .description("request description " + i)
+                    .created(LocalDateTime.now().minusHours(i))
+                    .requester(requester)
+                    .build());
+            itemRepository.save(Item.builder()
+                    .name("item name " + i)
+                    .description("item description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .request(itemRequest)
+                    .build());
+        }
+    }
+
+    @Test
+    void findAllFromOthersRunsFixedNumberOfQueries() {
+        long smallPageQueries = countQueries(() -> itemRequestService.findAllFromOthers(owner.getId(), 0, 2), 2);
+        long fullPageQueries = countQueries(() -> itemRequestService.findAllFromOthers(owner.getId(), 0, REQUESTS_COUNT),
+                REQUESTS_COUNT);
+
+        assertEquals(smallPageQueries, fullPageQueries);
+        assertTrue(fullPageQueries < REQUESTS_COUNT);
+    }
+
+    @Test
+    void findAllByRequesterRunsFixedNumberOfQueries() {
+        long queries = countQueries(() -> itemRequestService.findAllByRequester(requester.getId()), REQUESTS_COUNT);
+
+        assertTrue(queries < REQUESTS_COUNT);
+    }
+
+    private long countQueries(Supplier<List<ItemRequestDto>> finder, int expectedSize) {
+        statistics.clear();
+        List<ItemRequestDto> itemRequests = finder.get();
+
+        assertEquals(expectedSize, itemRequests.size());
+        itemRequests.forEach(r -> assertEquals(1, r.getItems().size()));
+        return statistics.getPrepareStatementCount();
+    }
+}
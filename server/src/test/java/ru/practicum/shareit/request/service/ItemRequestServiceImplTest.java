@@ -18,6 +18,7 @@ import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -42,6 +43,9 @@ class ItemRequestServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserExistenceChecker userExistenceChecker;
+
     @Mock
     private ItemRepository itemRepository;
 
@@ -67,8 +71,8 @@ class ItemRequestServiceImplTest {
     @Test
     void create() {
         Mockito
-                .when(userRepository.findById(1))
-                .thenReturn(Optional.ofNullable(user));
+                .when(userRepository.getReferenceById(1))
+                .thenReturn(user);
         Mockito
                 .when(itemRequestMapper.toItemRequest(any(ItemRequestDto.class)))
                 .thenReturn(itemRequest);
@@ -86,9 +90,6 @@ class ItemRequestServiceImplTest {
 
     @Test
     void findAllByRequester() {
-        Mockito
-                .when(userRepository.findById(1))
-                .thenReturn(Optional.ofNullable(user));
         Mockito
                 .when(itemRequestRepository.findAllByRequesterId(any(Integer.class)))
                 .thenReturn(List.of(itemRequest));
@@ -96,15 +97,16 @@ class ItemRequestServiceImplTest {
                 .when(itemRequestMapper.toItemRequestDto(any(ItemRequest.class)))
                 .thenReturn(itemRequestDto);
         Mockito
-                .when(itemRepository.findByRequestId(any(Integer.class)))
+                .when(itemRepository.findByRequestIdIn(List.of(1)))
                 .thenReturn(List.of(item));
         Mockito
                 .when(itemMapper.toItemDtoForRequests(any(Item.class)))
-                .thenReturn(makeItemDtoForRequests(user.getId()));
+                .thenReturn(makeItemDtoForRequests(itemRequest.getId()));
 
         List<ItemRequestDto> foundItemRequests = itemRequestService.findAllByRequester(1);
 
         assertEquals(1, foundItemRequests.size());
+        assertEquals(1, foundItemRequests.get(0).getItems().size());
     }
 
     @Test
@@ -116,11 +118,11 @@ class ItemRequestServiceImplTest {
                 .when(itemRequestMapper.toItemRequestDto(any(ItemRequest.class)))
                 .thenReturn(itemRequestDto);
         Mockito
-                .when(itemRepository.findByRequestId(any(Integer.class)))
+                .when(itemRepository.findByRequestIdIn(List.of(1)))
                 .thenReturn(List.of(item));
         Mockito
                 .when(itemMapper.toItemDtoForRequests(any(Item.class)))
-                .thenReturn(makeItemDtoForRequests(user.getId()));
+                .thenReturn(makeItemDtoForRequests(itemRequest.getId()));
 
         List<ItemRequestDto> foundItemRequests = itemRequestService.findAllFromOthers(1, 0, 10);
 
@@ -129,9 +131,6 @@ class ItemRequestServiceImplTest {
 
     @Test
     void findById() {
-        Mockito
-                .when(userRepository.findById(1))
-                .thenReturn(Optional.ofNullable(user));
         Mockito
                 .when(itemRequestRepository.findById(1))
                 .thenReturn(Optional.ofNullable(itemRequest));
@@ -186,13 +185,13 @@ class ItemRequestServiceImplTest {
                 .build();
     }
 
-    private ItemDtoForRequests makeItemDtoForRequests(Integer requesterId) {
+    private ItemDtoForRequests makeItemDtoForRequests(Integer requestId) {
         return ItemDtoForRequests.builder()
                 .id(1)
                 .name("item name")
                 .description("item description")
                 .available(true)
-                .requestId(requesterId)
+                .requestId(requestId)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package ru.practicum.shareit.user.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exception.model.EntityNotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class UserServiceImplCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserExistenceChecker userExistenceChecker;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    private UserDto user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userService.create(UserDto.builder()
+                .name("user name")
+                .email("user@mail.com")
+                .build());
+    }
+
+    @Test
+    void existsByIdIsCached() {
+        statistics.clear();
+
+        assertTrue(userRepository.existsById(user.getId()));
+        assertTrue(userRepository.existsById(user.getId()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertNotNull(cacheManager.getCache(UserRepository.USER_EXISTS_CACHE).get(user.getId()));
+    }
+
+    @Test
+    void existsByIdDoesNotCacheMissingUser() {
+        assertFalse(userRepository.existsById(99));
+
+        assertNull(cacheManager.getCache(UserRepository.USER_EXISTS_CACHE).get(99));
+    }
+
+    @Test
+    void checkExistsUsesCache() {
+        statistics.clear();
+
+        userExistenceChecker.checkExists(user.getId());
+        userExistenceChecker.checkExists(user.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertThrows(EntityNotFoundException.class, () -> userExistenceChecker.checkExists(99));
+    }
+
+    @Test
+    void deleteByIdEvictsUser() {
+        assertTrue(userRepository.existsById(user.getId()));
+
+        userService.deleteById(user.getId());
+
+        assertNull(cacheManager.getCache(UserRepository.USER_EXISTS_CACHE).get(user.getId()));
+        assertFalse(userRepository.existsById(user.getId()));
+    }
+
+    @Test
+    void deleteByIdEvictsUserAfterCommit() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.deleteById(user.getId());
+            boolean existsInOtherTransaction = CompletableFuture
+                    .supplyAsync(() -> userRepository.existsById(user.getId()))
+                    .join();
+
+            assertTrue(existsInOtherTransaction);
+            assertNotNull(cacheManager.getCache(UserRepository.USER_EXISTS_CACHE).get(user.getId()));
+        });
+
+        assertNull(cacheManager.getCache(UserRepository.USER_EXISTS_CACHE).get(user.getId()));
+        assertFalse(userRepository.existsById(user.getId()));
+    }
+
+    @Test
+    void deleteByIdKeepsUserWhenRolledBack() {
+        assertTrue(userRepository.existsById(user.getId()));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.deleteById(user.getId());
+            status.setRollbackOnly();
+        });
+
+        assertNotNull(cacheManager.getCache(UserRepository.USER_EXISTS_CACHE).get(user.getId()));
+        assertTrue(userRepository.existsById(user.getId()));
+    }
+
+    @Test
+    void deleteByIdEvictsOwnedItemDetails() {
+        UserDto other = userService.create(UserDto.builder()
+                .name("other name")
+                .email("other@mail.com")
+                .build());
+        ItemDto item = itemService.createItem(ItemDto.builder()
+                .name("item name")
+                .description("description")
+                .available(true)
+                .build(), user.getId());
+        assertEquals(item.getName(), itemService.findById(item.getId(), other.getId()).getName());
+
+        userService.deleteById(user.getId());
+
+        assertThrows(EntityNotFoundException.class, () -> itemService.findById(item.getId(), other.getId()));
+    }
+}
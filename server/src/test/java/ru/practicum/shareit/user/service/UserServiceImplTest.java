@@ -7,6 +7,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
@@ -29,6 +35,24 @@ public class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private ItemDetailsCache itemDetailsCache;
+
+    @Mock
+    private CacheManager cacheManager;
+
     private User user;
 
     private UserDto userDto;
@@ -119,11 +143,30 @@ public class UserServiceImplTest {
         Mockito
                 .when(userRepository.findById(1))
                 .thenReturn(Optional.ofNullable(user));
+        Mockito
+                .when(itemRepository.findIdsByOwnerIdOrRequesterId(1))
+                .thenReturn(List.of(1));
+        Mockito
+                .when(bookingRepository.findItemIdsByBookerId(1))
+                .thenReturn(List.of(2));
+        Mockito
+                .when(commentRepository.findItemIdsByAuthorId(1))
+                .thenReturn(List.of(2, 3));
 
         int id = userService.deleteById(1);
         assertEquals(id, 1);
         Mockito
                 .verify(userRepository).deleteById(1);
+        Mockito
+                .verify(itemSearchIndex).remove(1);
+        Mockito
+                .verify(itemDetailsCache).evict(1);
+        Mockito
+                .verify(itemDetailsCache).evict(2);
+        Mockito
+                .verify(itemDetailsCache).evict(3);
+        Mockito
+                .verifyNoMoreInteractions(itemSearchIndex, itemDetailsCache);
     }
 
     private UserDto makeUserDto() {